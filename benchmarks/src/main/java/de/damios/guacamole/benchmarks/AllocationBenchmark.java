@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.math.Vector2;
+
+import de.damios.guacamole.gdx.graphics.GLUtils;
+import de.damios.guacamole.gdx.graphics.NestableFrameBuffer;
+import de.damios.guacamole.gdx.math.IntVector2;
+import de.damios.guacamole.gdx.pool.Vector2Pool;
+
+/**
+ * Benchmarks utilities meant to be used in the render loop on the headless
+ * backend. OpenGL calls go to a {@link FakeGL20}.
+ * <p>
+ * Benchmarks marked as {@link AllocationFree} are checked by the
+ * {@link AllocationCheck}; the others are kept for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+	private HeadlessApplication application;
+	private NestableFrameBuffer outerFbo;
+	private NestableFrameBuffer innerFbo;
+	private final int[] viewport = new int[4];
+	private final Vector2Pool pool = new Vector2Pool(8);
+	private final IntVector2 vector = new IntVector2(3, 4);
+	private final IntVector2 other = new IntVector2(-1, 2);
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		application = new HeadlessApplication(new ApplicationAdapter() {
+		});
+		Gdx.gl20 = new FakeGL20();
+		Gdx.gl = Gdx.gl20;
+
+		outerFbo = new NestableFrameBuffer(Format.RGBA8888, 64, 64, false);
+		innerFbo = new NestableFrameBuffer(Format.RGBA8888, 32, 32, false);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		outerFbo.dispose();
+		innerFbo.dispose();
+		application.exit();
+	}
+
+	@Benchmark
+	@AllocationFree
+	public int getBoundFboHandle() {
+		return GLUtils.getBoundFboHandle();
+	}
+
+	@Benchmark
+	public int[] getViewport() {
+		return GLUtils.getViewport();
+	}
+
+	@Benchmark
+	@AllocationFree
+	public int[] getViewportIntoArray() {
+		return GLUtils.getViewport(viewport);
+	}
+
+	@Benchmark
+	@AllocationFree
+	public void nestedFrameBuffers() {
+		outerFbo.begin();
+		innerFbo.begin();
+		innerFbo.end();
+		outerFbo.end();
+	}
+
+	@Benchmark
+	@AllocationFree
+	public float vector2PoolObtainFree() {
+		Vector2 v = pool.obtain().set(1, 2);
+		float x = v.x;
+		pool.free(v);
+		return x;
+	}
+
+	@Benchmark
+	@AllocationFree
+	public IntVector2 intVector2Arithmetic() {
+		return vector.add(other).sub(other).scl(1);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the {@link AllocationBenchmark} with JMH's {@linkplain GCProfiler GC
+ * profiler} and reports the number of bytes allocated per operation. Fails,
+ * i.e. exits with a non-zero status, if a benchmark marked as
+ * {@link AllocationFree} allocates.
+ * <p>
+ * The results are additionally written as JSON to the file given as first
+ * argument.
+ */
+public class AllocationCheck {
+
+	/**
+	 * The allocation rate up to which a benchmark is considered
+	 * allocation-free. JMH's own infrastructure occasionally allocates, which
+	 * amounts to a tiny fraction of a byte per operation.
+	 */
+	private static final double TOLERANCE = 0.5;
+	private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+	public static void main(String[] args) throws RunnerException {
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.include(AllocationBenchmark.class.getName())
+				.addProfiler(GCProfiler.class).warmupIterations(2)
+				.warmupTime(TimeValue.milliseconds(500)).measurementIterations(3)
+				.measurementTime(TimeValue.milliseconds(500)).forks(1);
+		if (args.length > 0)
+			builder.resultFormat(ResultFormatType.JSON).result(args[0]);
+		Options options = builder.build();
+
+		Collection<RunResult> results = new Runner(options).run();
+
+		List<String> violations = new ArrayList<>();
+		System.out.println();
+		System.out.println("Allocated bytes per operation:");
+		for (RunResult result : results) {
+			String benchmark = result.getParams().getBenchmark();
+			String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+			Result<?> allocationRate = result.getSecondaryResults()
+					.get(ALLOCATION_RATE);
+			if (allocationRate == null)
+				throw new IllegalStateException(
+						"The GC profiler didn't report " + ALLOCATION_RATE);
+
+			double bytes = allocationRate.getScore();
+			boolean allocationFree = isAllocationFree(method);
+			System.out.printf("  %-30s %10.2f%s%n", method, bytes,
+					allocationFree ? " (allocation-free)" : "");
+			if (allocationFree && bytes > TOLERANCE)
+				violations.add(method);
+		}
+
+		if (!violations.isEmpty()) {
+			System.err.println(
+					"The following benchmarks are marked as allocation-free, but allocate: "
+							+ violations);
+			System.exit(1);
+		}
+	}
+
+	private static boolean isAllocationFree(String method) {
+		try {
+			Method m = AllocationBenchmark.class.getMethod(method);
+			return m.isAnnotationPresent(AllocationFree.class);
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+}
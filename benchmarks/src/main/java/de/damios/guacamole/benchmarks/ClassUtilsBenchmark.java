@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.damios.guacamole.ClassUtils;
+
+/**
+ * Benchmarks {@link ClassUtils#getAbbreviatedClassName(Class)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassUtilsBenchmark {
+
+	private final Class<?> clazz = ClassUtilsBenchmark.class;
+	private final Class<?> nestedClass = java.util.Map.Entry.class;
+
+	@Benchmark
+	public String getAbbreviatedClassName() {
+		return ClassUtils.getAbbreviatedClassName(clazz);
+	}
+
+	@Benchmark
+	public String getAbbreviatedNestedClassName() {
+		return ClassUtils.getAbbreviatedClassName(nestedClass);
+	}
+
+}
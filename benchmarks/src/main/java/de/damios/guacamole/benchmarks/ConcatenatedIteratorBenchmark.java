@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.damios.guacamole.ConcatenatedIterator;
+
+/**
+ * Benchmarks iterating over three lists via a {@link ConcatenatedIterator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConcatenatedIteratorBenchmark {
+
+	@Param({ "10", "1000" })
+	private int size;
+
+	private List<Integer> a, b, c;
+
+	@Setup
+	public void setUp() {
+		a = createList(size);
+		b = createList(size);
+		c = createList(size);
+	}
+
+	private static List<Integer> createList(int size) {
+		List<Integer> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	@Benchmark
+	public long iterate() {
+		Iterator<Integer> it = new ConcatenatedIterator<>(
+				Arrays.asList(a.iterator(), b.iterator(), c.iterator()));
+		long sum = 0;
+		while (it.hasNext()) {
+			sum += it.next();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long iterateSeparately() {
+		// Baseline
+		long sum = 0;
+		for (Integer i : a)
+			sum += i;
+		for (Integer i : b)
+			sum += i;
+		for (Integer i : c)
+			sum += i;
+		return sum;
+	}
+
+}
@@ -0,0 +1,888 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * A {@link GL20} implementation that doesn't do anything, so code using
+ * OpenGL can be benchmarked on the headless backend. In contrast to a mock, it
+ * doesn't allocate anything itself.
+ * <p>
+ * Only the state queried by guacamole is tracked: the bound framebuffer and
+ * the viewport. Generated names are unique and framebuffers are always
+ * complete.
+ */
+public class FakeGL20 implements GL20 {
+
+	private int handles = 0;
+	private int boundFramebuffer = 0;
+	private int viewportX = 0, viewportY = 0, viewportWidth = 640,
+			viewportHeight = 480;
+
+	@Override
+	public void glActiveTexture(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glBindTexture(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glBlendFunc(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glClear(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glClearColor(float arg0, float arg1, float arg2, float arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glClearDepthf(float arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glClearStencil(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glColorMask(boolean arg0, boolean arg1, boolean arg2,
+			boolean arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3,
+			int arg4, int arg5, int arg6, Buffer arg7) {
+		// no-op
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2,
+			int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+		// no-op
+	}
+
+	@Override
+	public void glCopyTexImage2D(int arg0, int arg1, int arg2, int arg3,
+			int arg4, int arg5, int arg6, int arg7) {
+		// no-op
+	}
+
+	@Override
+	public void glCopyTexSubImage2D(int arg0, int arg1, int arg2, int arg3,
+			int arg4, int arg5, int arg6, int arg7) {
+		// no-op
+	}
+
+	@Override
+	public void glCullFace(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteTextures(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteTexture(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDepthFunc(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDepthMask(boolean arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDepthRangef(float arg0, float arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDisable(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDrawArrays(int arg0, int arg1, int arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glDrawElements(int arg0, int arg1, int arg2, Buffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glEnable(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glFinish() {
+		// no-op
+	}
+
+	@Override
+	public void glFlush() {
+		// no-op
+	}
+
+	@Override
+	public void glFrontFace(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glGenTextures(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public int glGenTexture() {
+		return ++handles;
+	}
+
+	@Override
+	public int glGetError() {
+		return 0;
+	}
+
+	@Override
+	public void glGetIntegerv(int pname, IntBuffer params) {
+		if (pname == GL20.GL_FRAMEBUFFER_BINDING) {
+			params.put(0, boundFramebuffer);
+		} else if (pname == GL20.GL_VIEWPORT) {
+			params.put(0, viewportX);
+			params.put(1, viewportY);
+			params.put(2, viewportWidth);
+			params.put(3, viewportHeight);
+		}
+	}
+
+	@Override
+	public String glGetString(int arg0) {
+		return "";
+	}
+
+	@Override
+	public void glHint(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glLineWidth(float arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glPixelStorei(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glPolygonOffset(float arg0, float arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4,
+			int arg5, Buffer arg6) {
+		// no-op
+	}
+
+	@Override
+	public void glScissor(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilFunc(int arg0, int arg1, int arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilMask(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilOp(int arg0, int arg1, int arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4,
+			int arg5, int arg6, int arg7, Buffer arg8) {
+		// no-op
+	}
+
+	@Override
+	public void glTexParameterf(int arg0, int arg1, float arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3,
+			int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+		// no-op
+	}
+
+	@Override
+	public void glViewport(int x, int y, int width, int height) {
+		viewportX = x;
+		viewportY = y;
+		viewportWidth = width;
+		viewportHeight = height;
+	}
+
+	@Override
+	public void glAttachShader(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glBindAttribLocation(int arg0, int arg1, String arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glBindBuffer(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glBindFramebuffer(int target, int framebuffer) {
+		if (target == GL20.GL_FRAMEBUFFER)
+			boundFramebuffer = framebuffer;
+	}
+
+	@Override
+	public void glBindRenderbuffer(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glBlendColor(float arg0, float arg1, float arg2, float arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glBlendEquation(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glBlendEquationSeparate(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glBlendFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glBufferData(int arg0, int arg1, Buffer arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glBufferSubData(int arg0, int arg1, int arg2, Buffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public int glCheckFramebufferStatus(int arg0) {
+		return GL20.GL_FRAMEBUFFER_COMPLETE;
+	}
+
+	@Override
+	public void glCompileShader(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public int glCreateProgram() {
+		return ++handles;
+	}
+
+	@Override
+	public int glCreateShader(int arg0) {
+		return ++handles;
+	}
+
+	@Override
+	public void glDeleteBuffer(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteBuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteFramebuffer(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteFramebuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteProgram(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteRenderbuffer(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteRenderbuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDeleteShader(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDetachShader(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glDisableVertexAttribArray(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glDrawElements(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glEnableVertexAttribArray(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer(int arg0, int arg1, int arg2,
+			int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glFramebufferTexture2D(int arg0, int arg1, int arg2, int arg3,
+			int arg4) {
+		// no-op
+	}
+
+	@Override
+	public int glGenBuffer() {
+		return ++handles;
+	}
+
+	@Override
+	public void glGenBuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glGenerateMipmap(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public int glGenFramebuffer() {
+		return ++handles;
+	}
+
+	@Override
+	public void glGenFramebuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public int glGenRenderbuffer() {
+		return ++handles;
+	}
+
+	@Override
+	public void glGenRenderbuffers(int arg0, IntBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public String glGetActiveAttrib(int arg0, int arg1, IntBuffer arg2,
+			IntBuffer arg3) {
+		return "";
+	}
+
+	@Override
+	public String glGetActiveUniform(int arg0, int arg1, IntBuffer arg2,
+			IntBuffer arg3) {
+		return "";
+	}
+
+	@Override
+	public void glGetAttachedShaders(int arg0, int arg1, Buffer arg2,
+			IntBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public int glGetAttribLocation(int arg0, String arg1) {
+		return 0;
+	}
+
+	@Override
+	public void glGetBooleanv(int arg0, Buffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glGetBufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetFloatv(int arg0, FloatBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1,
+			int arg2, IntBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glGetProgramiv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public String glGetProgramInfoLog(int arg0) {
+		return "";
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv(int arg0, int arg1,
+			IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetShaderiv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public String glGetShaderInfoLog(int arg0) {
+		return "";
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat(int arg0, int arg1, IntBuffer arg2,
+			IntBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glGetTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetUniformfv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetUniformiv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public int glGetUniformLocation(int arg0, String arg1) {
+		return 0;
+	}
+
+	@Override
+	public void glGetVertexAttribfv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetVertexAttribiv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv(int arg0, int arg1, Buffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public boolean glIsBuffer(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsEnabled(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsFramebuffer(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsProgram(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsRenderbuffer(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsShader(int arg0) {
+		return false;
+	}
+
+	@Override
+	public boolean glIsTexture(int arg0) {
+		return false;
+	}
+
+	@Override
+	public void glLinkProgram(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glReleaseShaderCompiler() {
+		// no-op
+	}
+
+	@Override
+	public void glRenderbufferStorage(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glSampleCoverage(float arg0, boolean arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glShaderBinary(int arg0, IntBuffer arg1, int arg2, Buffer arg3,
+			int arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glShaderSource(int arg0, String arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilMaskSeparate(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glStencilOpSeparate(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glTexParameteri(int arg0, int arg1, int arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1f(int arg0, float arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1fv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1fv(int arg0, int arg1, float[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1i(int arg0, int arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1iv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform1iv(int arg0, int arg1, int[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2f(int arg0, float arg1, float arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2fv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2fv(int arg0, int arg1, float[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2i(int arg0, int arg1, int arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2iv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform2iv(int arg0, int arg1, int[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3f(int arg0, float arg1, float arg2, float arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3fv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3fv(int arg0, int arg1, float[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3i(int arg0, int arg1, int arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3iv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform3iv(int arg0, int arg1, int[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4f(int arg0, float arg1, float arg2, float arg3,
+			float arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4fv(int arg0, int arg1, FloatBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4fv(int arg0, int arg1, float[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4iv(int arg0, int arg1, IntBuffer arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glUniform4iv(int arg0, int arg1, int[] arg2, int arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2,
+			FloatBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2,
+			float[] arg3, int arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2,
+			FloatBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2,
+			float[] arg3, int arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2,
+			FloatBuffer arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2,
+			float[] arg3, int arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glUseProgram(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glValidateProgram(int arg0) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib1f(int arg0, float arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib1fv(int arg0, FloatBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib2f(int arg0, float arg1, float arg2) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib2fv(int arg0, FloatBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib3f(int arg0, float arg1, float arg2, float arg3) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib3fv(int arg0, FloatBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib4f(int arg0, float arg1, float arg2, float arg3,
+			float arg4) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttrib4fv(int arg0, FloatBuffer arg1) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttribPointer(int arg0, int arg1, int arg2,
+			boolean arg3, int arg4, Buffer arg5) {
+		// no-op
+	}
+
+	@Override
+	public void glVertexAttribPointer(int arg0, int arg1, int arg2,
+			boolean arg3, int arg4, int arg5) {
+		// no-op
+	}
+
+}
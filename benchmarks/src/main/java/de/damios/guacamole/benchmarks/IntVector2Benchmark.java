@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.damios.guacamole.gdx.math.IntVector2;
+
+/**
+ * Benchmarks the arithmetic of {@link IntVector2}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntVector2Benchmark {
+
+	private final IntVector2 a = new IntVector2(3, -7);
+	private final IntVector2 b = new IntVector2(12, 5);
+	private final IntVector2 result = new IntVector2();
+
+	@Benchmark
+	public IntVector2 add() {
+		return result.set(a).add(b);
+	}
+
+	@Benchmark
+	public IntVector2 sub() {
+		return result.set(a).sub(b);
+	}
+
+	@Benchmark
+	public IntVector2 scl() {
+		return result.set(a).scl(3);
+	}
+
+	@Benchmark
+	public float dot() {
+		return a.dot(b);
+	}
+
+	@Benchmark
+	public float dst2() {
+		return a.dst2(b);
+	}
+
+	@Benchmark
+	public float len() {
+		return a.len();
+	}
+
+	@Benchmark
+	public IntVector2 cpy() {
+		return a.cpy();
+	}
+
+}
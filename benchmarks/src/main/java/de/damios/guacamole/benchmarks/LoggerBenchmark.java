@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.ApplicationLogger;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+import de.damios.guacamole.gdx.log.Logger;
+import de.damios.guacamole.gdx.log.LoggerService;
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Benchmarks formatting log messages via a {@link Logger}. The messages are
+ * passed to an {@link ApplicationLogger} that discards them, so only the cost
+ * of the logger itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggerBenchmark {
+
+	private HeadlessApplication application;
+	private Logger logger;
+	private int counter = 0;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		application = new HeadlessApplication(new ApplicationAdapter() {
+		});
+		Gdx.app.setApplicationLogger(new DiscardingLogger());
+		LoggerService.setLogLevel(LogLevel.INFO);
+		logger = LoggerService.getLogger(LoggerBenchmark.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		application.exit();
+	}
+
+	@Benchmark
+	public void infoWithoutArguments() {
+		logger.info("The level was loaded");
+	}
+
+	@Benchmark
+	public void infoWithArguments() {
+		logger.info("Loaded level %s with %d entities", "forest", counter++);
+	}
+
+	@Benchmark
+	public void infoWithPrimitiveArgument() {
+		logger.info("The frame took %s ms", counter++ * 0.5f);
+	}
+
+	@Benchmark
+	public void infoWithComplexFormat() {
+		logger.info("The frame took %.2f ms", counter++ * 0.5f);
+	}
+
+	@Benchmark
+	public void disabledDebug() {
+		logger.debug("Loaded level %s with %d entities", "forest", counter++);
+	}
+
+	private static class DiscardingLogger implements ApplicationLogger {
+
+		@Override
+		public void log(String tag, String message) {
+			// discarded
+		}
+
+		@Override
+		public void log(String tag, String message, Throwable exception) {
+			// discarded
+		}
+
+		@Override
+		public void error(String tag, String message) {
+			// discarded
+		}
+
+		@Override
+		public void error(String tag, String message, Throwable exception) {
+			// discarded
+		}
+
+		@Override
+		public void debug(String tag, String message) {
+			// discarded
+		}
+
+		@Override
+		public void debug(String tag, String message, Throwable exception) {
+			// discarded
+		}
+
+	}
+
+}
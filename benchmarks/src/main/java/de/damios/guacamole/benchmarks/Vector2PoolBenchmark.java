@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+
+import de.damios.guacamole.gdx.pool.Vector2Pool;
+
+/**
+ * Benchmarks obtaining and freeing vectors via a {@link Vector2Pool}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vector2PoolBenchmark {
+
+	private final Vector2Pool pool = new Vector2Pool(8);
+
+	@Benchmark
+	public float obtainFree() {
+		Vector2 v = pool.obtain().set(1, 2);
+		float x = v.x;
+		pool.free(v);
+		return x;
+	}
+
+	@Benchmark
+	public float obtainFreeNested() {
+		Vector2 v1 = pool.obtain().set(1, 2);
+		Vector2 v2 = pool.obtain().set(3, 4);
+		float dst = v1.dst2(v2);
+		pool.free(v2);
+		pool.free(v1);
+		return dst;
+	}
+
+	@Benchmark
+	public float allocate() {
+		// Baseline
+		return new Vector2(1, 2).x;
+	}
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole;
+
+import java.util.Arrays;
+
+/**
+ * A histogram for recording a large number of non-negative values, e.g.
+ * frame times or latencies measured via a {@link Stopwatch}, in a fixed
+ * amount of memory.
+ * <p>
+ * The buckets are log-linear: every power of two is split into
+ * {@code 2^precisionBits} equally sized buckets. Thus, the relative error of
+ * the reported percentiles is at most {@code 2^-precisionBits}, no matter how
+ * large the values are; e.g. 1.6% for the default of 6 precision bits. Values
+ * smaller than {@code 2^precisionBits} are recorded exactly.
+ * <p>
+ * Recording takes constant time and doesn't allocate anything. Histograms are
+ * not thread-safe; to record values from multiple threads, every thread
+ * should use its own histogram. The histograms can then be
+ * {@linkplain #add(Histogram) merged}.
+ * 
+ * @author damios
+ */
+public class Histogram {
+
+	private final int precisionBits;
+	private final int subBucketCount;
+	private final long[] counts;
+	private long totalCount = 0;
+	private long min = Long.MAX_VALUE;
+	private long max = 0;
+	private double sum = 0;
+
+	/**
+	 * Creates a histogram with 6 precision bits, i.e. a maximum relative
+	 * error of about 1.6%.
+	 */
+	public Histogram() {
+		this(6);
+	}
+
+	/**
+	 * @param precisionBits
+	 *            the number of bits used to split every power of two; has to
+	 *            be between 1 and 12
+	 */
+	public Histogram(int precisionBits) {
+		Preconditions.checkArgument(precisionBits >= 1 && precisionBits <= 12,
+				"the precision bits have to be between 1 and 12");
+		this.precisionBits = precisionBits;
+		this.subBucketCount = 1 << precisionBits;
+		this.counts = new long[(64 - precisionBits) * subBucketCount];
+	}
+
+	private int getBucketIndex(long value) {
+		if (value < subBucketCount)
+			return (int) value;
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - precisionBits;
+		return ((shift + 1) << precisionBits)
+				+ (int) ((value >>> shift) & (subBucketCount - 1));
+	}
+
+	/**
+	 * @return the mid-point of the values covered by the given bucket
+	 */
+	private long getBucketValue(int index) {
+		if (index < subBucketCount)
+			return index;
+
+		int shift = (index >>> precisionBits) - 1;
+		long lowerBound = (long) (subBucketCount
+				+ (index & (subBucketCount - 1))) << shift;
+		return lowerBound + ((1L << shift) >>> 1);
+	}
+
+	/**
+	 * Records a value.
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	public void record(long value) {
+		record(value, 1);
+	}
+
+	/**
+	 * Records a value multiple times.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param count
+	 *            how often the value is recorded
+	 */
+	public void record(long value, long count) {
+		Preconditions.checkArgument(value >= 0, "the value cannot be negative");
+		Preconditions.checkArgument(count >= 0, "the count cannot be negative");
+		if (count == 0)
+			return;
+
+		counts[getBucketIndex(value)] += count;
+		totalCount += count;
+		sum += (double) value * count;
+		if (value < min)
+			min = value;
+		if (value > max)
+			max = value;
+	}
+
+	/**
+	 * Adds all values recorded by another histogram to this one.
+	 * 
+	 * @param other
+	 *            the other histogram; has to use the same number of precision
+	 *            bits
+	 */
+	public void add(Histogram other) {
+		Preconditions.checkArgument(precisionBits == other.precisionBits,
+				"the histograms have to use the same number of precision bits");
+
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		totalCount += other.totalCount;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the recorded
+	 * values lies.
+	 * 
+	 * @param percentile
+	 *            the percentile, e.g. {@code 99.9}
+	 * @return the value; {@code 0} if no values were recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		Preconditions.checkArgument(percentile >= 0 && percentile <= 100,
+				"the percentile has to be between 0 and 100");
+		if (totalCount == 0)
+			return 0;
+		if (percentile == 100)
+			return max;
+
+		long rank = Math.max(1,
+				(long) Math.ceil(percentile / 100 * totalCount));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.max(min, Math.min(max, getBucketValue(i)));
+		}
+		return max;
+	}
+
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * @return the smallest recorded value; {@code 0} if no values were
+	 *         recorded
+	 */
+	public long getMin() {
+		return totalCount == 0 ? 0 : min;
+	}
+
+	/**
+	 * @return the largest recorded value
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the mean of the recorded values; {@code 0} if no values were
+	 *         recorded
+	 */
+	public double getMean() {
+		return totalCount == 0 ? 0 : sum / totalCount;
+	}
+
+	public int getPrecisionBits() {
+		return precisionBits;
+	}
+
+	/**
+	 * @return an immutable snapshot of the most commonly used statistics
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(totalCount, getMin(), getMax(), getMean(),
+				getValueAtPercentile(50), getValueAtPercentile(90),
+				getValueAtPercentile(99), getValueAtPercentile(99.9));
+	}
+
+	/**
+	 * An immutable snapshot of the statistics of a {@link Histogram}.
+	 */
+	public static final class Snapshot {
+
+		private final long count;
+		private final long min;
+		private final long max;
+		private final double mean;
+		private final long p50;
+		private final long p90;
+		private final long p99;
+		private final long p999;
+
+		private Snapshot(long count, long min, long max, double mean, long p50,
+				long p90, long p99, long p999) {
+			this.count = count;
+			this.min = min;
+			this.max = max;
+			this.mean = mean;
+			this.p50 = p50;
+			this.p90 = p90;
+			this.p99 = p99;
+			this.p999 = p999;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getMin() {
+			return min;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return mean;
+		}
+
+		public long getP50() {
+			return p50;
+		}
+
+		public long getP90() {
+			return p90;
+		}
+
+		public long getP99() {
+			return p99;
+		}
+
+		public long getP999() {
+			return p999;
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot{count=" + count + ",min=" + min + ",max=" + max
+					+ ",mean=" + mean + ",p50=" + p50 + ",p90=" + p90
+					+ ",p99=" + p99 + ",p999=" + p999 + "}";
+		}
+
+	}
+
+}
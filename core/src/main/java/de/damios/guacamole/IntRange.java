@@ -48,6 +48,28 @@ public class IntRange implements IntPredicate {
 		return upperBound.test(value) && lowerBound.test(value);
 	}
 
+	/**
+	 * @return the smallest integer contained in this range; if the range is
+	 *         empty, this is bigger than {@link #getMax()}
+	 */
+	public int getMin() {
+		// Cannot overflow: an exclusive lower bound is always smaller than
+		// the upper bound, i.e. smaller than Integer.MAX_VALUE
+		return lowerBound.isInclusive() ? lowerBound.getValue()
+				: lowerBound.getValue() + 1;
+	}
+
+	/**
+	 * @return the biggest integer contained in this range; if the range is
+	 *         empty, this is smaller than {@link #getMin()}
+	 */
+	public int getMax() {
+		// Cannot overflow: an exclusive upper bound is always bigger than the
+		// lower bound, i.e. bigger than Integer.MIN_VALUE
+		return upperBound.isInclusive() ? upperBound.getValue()
+				: upperBound.getValue() - 1;
+	}
+
 	public IntBound getLowerBound() {
 		return lowerBound;
 	}
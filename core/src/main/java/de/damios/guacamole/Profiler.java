@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple profiler measuring the time spent in nested, named sections of a
+ * frame, e.g. {@code frame > update > physics}:
+ * 
+ * <pre>
+ * profiler.beginFrame();
+ * profiler.push("update");
+ * profiler.push("physics");
+ * // ...
+ * profiler.pop();
+ * profiler.pop();
+ * profiler.endFrame();
+ * </pre>
+ * <p>
+ * The times of the last frames are kept per section, so the minimum, average,
+ * maximum and 99th percentile can be {@linkplain #getReport() reported} on
+ * demand. If a section is entered multiple times per frame, the times are
+ * summed up.
+ * <p>
+ * All memory is allocated up front, so profiling a frame doesn't allocate
+ * anything. In return, the number of sections is limited. Sections are
+ * identified by their name and their parent section; the names should be
+ * constants, as they are compared by identity first.
+ * <p>
+ * Profilers are not thread-safe; they are meant to be used by a single thread,
+ * e.g. the render thread.
+ * 
+ * @author damios
+ * @see Stopwatch
+ */
+public class Profiler {
+
+	/**
+	 * The statistics computed over the recorded frames.
+	 */
+	public enum Statistic {
+		MIN, AVG, MAX, P99
+	}
+
+	private static final int NOT_ENTERED = -1;
+	private static final int ROOT = 0;
+
+	private final int frameWindow;
+	private final String[] names;
+	private final int[] parents;
+	private final int[] depths;
+	private final Stopwatch[] stopwatches;
+	private final boolean[] entered;
+	/**
+	 * The times of the recorded frames per section; {@value #NOT_ENTERED} if
+	 * a section wasn't entered in a frame.
+	 */
+	private final long[][] samples;
+	private final int[] stack;
+	private final long[] scratch;
+	private int sectionCount = 1;
+	private int stackSize = 0;
+	private int frameIndex = 0;
+	private int recordedFrames = 0;
+
+	/**
+	 * Creates a profiler with space for 64 sections, which keeps the times of
+	 * the last 120 frames.
+	 */
+	public Profiler() {
+		this(64, 120);
+	}
+
+	/**
+	 * @param maxSections
+	 *            the maximum number of sections, including the section
+	 *            representing the whole frame
+	 * @param frameWindow
+	 *            the number of frames the statistics are computed over
+	 */
+	public Profiler(int maxSections, int frameWindow) {
+		Preconditions.checkArgument(maxSections > 0,
+				"the number of sections has to be positive");
+		Preconditions.checkArgument(frameWindow > 0,
+				"the frame window has to be positive");
+
+		this.frameWindow = frameWindow;
+		this.names = new String[maxSections];
+		this.parents = new int[maxSections];
+		this.depths = new int[maxSections];
+		this.stopwatches = new Stopwatch[maxSections];
+		this.entered = new boolean[maxSections];
+		this.samples = new long[maxSections][frameWindow];
+		this.stack = new int[maxSections];
+		this.scratch = new long[frameWindow];
+		for (int i = 0; i < maxSections; i++) {
+			stopwatches[i] = Stopwatch.createUnstarted();
+		}
+
+		names[ROOT] = "frame";
+		parents[ROOT] = -1;
+		Arrays.fill(samples[ROOT], NOT_ENTERED);
+	}
+
+	/**
+	 * Starts a new frame. All sections pushed until the frame is
+	 * {@linkplain #endFrame() ended} are children of the frame section.
+	 */
+	public void beginFrame() {
+		Preconditions.checkState(stackSize == 0,
+				"the previous frame wasn't ended");
+		enter(ROOT);
+	}
+
+	/**
+	 * Ends the current frame and records the times of all sections.
+	 */
+	public void endFrame() {
+		Preconditions.checkState(stackSize == 1,
+				"all sections have to be popped before the frame is ended");
+		stopwatches[stack[--stackSize]].stop();
+
+		for (int i = 0; i < sectionCount; i++) {
+			samples[i][frameIndex] = entered[i] ? stopwatches[i].getTime()
+					: NOT_ENTERED;
+			stopwatches[i].reset();
+			entered[i] = false;
+		}
+		frameIndex = (frameIndex + 1) % frameWindow;
+		if (recordedFrames < frameWindow)
+			recordedFrames++;
+	}
+
+	/**
+	 * Enters a section. The section is a child of the section entered before.
+	 * 
+	 * @param name
+	 *            the name of the section
+	 */
+	public void push(String name) {
+		Preconditions.checkState(stackSize > 0,
+				"sections can only be pushed between beginFrame() and endFrame()");
+		enter(getOrCreateSection(stack[stackSize - 1], name));
+	}
+
+	/**
+	 * Leaves the section entered last.
+	 */
+	public void pop() {
+		Preconditions.checkState(stackSize > 1, "there is no section to pop");
+		stopwatches[stack[--stackSize]].stop();
+	}
+
+	private void enter(int section) {
+		stack[stackSize++] = section;
+		entered[section] = true;
+		stopwatches[section].start();
+	}
+
+	private int getOrCreateSection(int parent, String name) {
+		for (int i = 1; i < sectionCount; i++) {
+			if (parents[i] == parent
+					&& (names[i] == name || names[i].equals(name)))
+				return i;
+		}
+
+		Preconditions.checkState(sectionCount < names.length,
+				"the maximum number of sections is reached");
+		int section = sectionCount++;
+		names[section] = name;
+		parents[section] = parent;
+		depths[section] = depths[parent] + 1;
+		Arrays.fill(samples[section], NOT_ENTERED);
+		return section;
+	}
+
+	/**
+	 * Computes a statistic of a section over the recorded frames. Frames in
+	 * which the section wasn't entered are ignored.
+	 * 
+	 * @param statistic
+	 *            the statistic
+	 * @param path
+	 *            the names of the section and its parents, excluding the frame
+	 *            section; if empty, the frame section is used
+	 * @return the statistic in nanoseconds; {@code -1} if the section doesn't
+	 *         exist or wasn't entered in any of the recorded frames
+	 */
+	public long getStatistic(Statistic statistic, String... path) {
+		int section = ROOT;
+		for (String name : path) {
+			section = findSection(section, name);
+			if (section == -1)
+				return -1;
+		}
+		return computeStatistic(section, statistic);
+	}
+
+	private int findSection(int parent, String name) {
+		for (int i = 1; i < sectionCount; i++) {
+			if (parents[i] == parent && names[i].equals(name))
+				return i;
+		}
+		return -1;
+	}
+
+	private long computeStatistic(int section, Statistic statistic) {
+		int n = 0;
+		for (int i = 0; i < recordedFrames; i++) {
+			if (samples[section][i] != NOT_ENTERED)
+				scratch[n++] = samples[section][i];
+		}
+		if (n == 0)
+			return -1;
+
+		switch (statistic) {
+		case AVG:
+			long sum = 0;
+			for (int i = 0; i < n; i++)
+				sum += scratch[i];
+			return sum / n;
+		default:
+			Arrays.sort(scratch, 0, n);
+			if (statistic == Statistic.MIN)
+				return scratch[0];
+			if (statistic == Statistic.MAX)
+				return scratch[n - 1];
+			return scratch[(int) Math.ceil(n * 0.99) - 1];
+		}
+	}
+
+	/**
+	 * Creates a report of the statistics of all sections over the recorded
+	 * frames. The sections are listed in a tree-like structure; all times are
+	 * given in milliseconds.
+	 * 
+	 * @return the report
+	 */
+	public String getReport() {
+		int nameWidth = 8;
+		for (int i = 0; i < sectionCount; i++) {
+			nameWidth = Math.max(nameWidth,
+					depths[i] * 2 + names[i].length() + 2);
+		}
+
+		StringBuilder builder = new StringBuilder();
+		appendPadded(builder, "section [ms]", nameWidth);
+		for (Statistic s : Statistic.values()) {
+			appendPadded(builder, s.name().toLowerCase(), 10);
+		}
+		builder.append('\n');
+		appendSection(builder, ROOT, nameWidth);
+		return builder.toString();
+	}
+
+	private void appendSection(StringBuilder builder, int section,
+			int nameWidth) {
+		int length = builder.length();
+		for (int i = 0; i < depths[section]; i++)
+			builder.append("  ");
+		builder.append(names[section]);
+		while (builder.length() - length < nameWidth)
+			builder.append(' ');
+
+		for (Statistic s : Statistic.values()) {
+			long time = computeStatistic(section, s);
+			appendPadded(builder, time == -1 ? "-" : formatMillis(time), 10);
+		}
+		builder.append('\n');
+
+		for (int i = section + 1; i < sectionCount; i++) {
+			if (parents[i] == section)
+				appendSection(builder, i, nameWidth);
+		}
+	}
+
+	private static void appendPadded(StringBuilder builder, String s,
+			int width) {
+		builder.append(s);
+		for (int i = s.length(); i < width; i++)
+			builder.append(' ');
+	}
+
+	private static String formatMillis(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		long fraction = micros % 1000;
+		return (micros / 1000) + "." + (fraction < 100 ? "0" : "")
+				+ (fraction < 10 ? "0" : "") + fraction;
+	}
+
+	/**
+	 * Discards all recorded frames. The sections are kept.
+	 */
+	public void reset() {
+		recordedFrames = 0;
+		frameIndex = 0;
+	}
+
+	/**
+	 * @return the number of frames the statistics are currently computed
+	 *         over
+	 */
+	public int getRecordedFrameCount() {
+		return recordedFrames;
+	}
+
+}
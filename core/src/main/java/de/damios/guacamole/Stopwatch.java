@@ -69,4 +69,16 @@ public class Stopwatch {
 		return unit.convert(getTime(), TimeUnit.NANOSECONDS);
 	}
 
+	/**
+	 * Records the {@linkplain #getTime() elapsed time} in the given histogram.
+	 * 
+	 * @param histogram
+	 *            the histogram
+	 * @return this stopwatch for chaining
+	 */
+	public Stopwatch recordTo(Histogram histogram) {
+		histogram.record(getTime());
+		return this;
+	}
+
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Groups tasks executed by a {@link ThreadHandler}, so they can be cancelled
+ * all at once, e.g. all tasks loading a level when the level is unloaded:
+ * 
+ * <pre>
+ * CancellationScope scope = handler.newScope(10, TimeUnit.SECONDS);
+ * for (Chunk c : level.getChunks())
+ * 	scope.executeRunnable(() -&gt; load(c));
+ * // ...
+ * scope.cancelAll();
+ * </pre>
+ * <p>
+ * Cancellation is cooperative: tasks that haven't been started yet are not
+ * run at all, while running tasks should check for cancellation from time to
+ * time via {@link #current()}. A scope can also have a deadline, after which
+ * it is considered cancelled. If metrics are
+ * {@linkplain ThreadHandler#setMetrics(ThreadHandlerMetrics) enabled}, the
+ * time spent on tasks whose scope got cancelled while they were running is
+ * recorded as {@linkplain ThreadHandlerMetrics.Snapshot#getWastedTime()
+ * wasted}.
+ * <p>
+ * Scopes can be nested: {@linkplain #newChildScope() child scopes} are
+ * cancelled together with their parent and inherit its deadline.
+ * 
+ * @author damios
+ * @see ThreadHandler#newScope()
+ */
+@GwtIncompatible
+public final class CancellationScope {
+
+	/**
+	 * The scope of the task the current thread is executing.
+	 */
+	static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+
+	private final ThreadHandler handler;
+	private final @Nullable CancellationScope parent;
+	private final boolean hasDeadline;
+	private final long deadline;
+	/**
+	 * The tasks of this scope that haven't completed yet.
+	 */
+	final Set<Future<Void>> tasks = ConcurrentHashMap.newKeySet();
+	private volatile boolean cancelled = false;
+
+	CancellationScope(ThreadHandler handler,
+			@Nullable CancellationScope parent, long timeoutNanos) {
+		this.handler = handler;
+		this.parent = parent;
+
+		long deadline = System.nanoTime() + timeoutNanos;
+		if (parent != null && parent.hasDeadline && (timeoutNanos < 0
+				|| parent.deadline - deadline < 0)) {
+			this.hasDeadline = true;
+			this.deadline = parent.deadline;
+		} else {
+			this.hasDeadline = timeoutNanos >= 0;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * Returns the scope of the task executed by the current thread. This allows
+	 * checking for cancellation deep down the call stack, without passing the
+	 * scope around.
+	 * 
+	 * @return the scope; {@code null} if the current thread isn't executing a
+	 *         task of a scope
+	 */
+	public static @Nullable CancellationScope current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * @return a new scope that is cancelled when this scope is cancelled; it
+	 *         has the same deadline as this scope
+	 */
+	public CancellationScope newChildScope() {
+		return new CancellationScope(handler, this, -1);
+	}
+
+	/**
+	 * @param timeout
+	 *            the time after which the new scope is cancelled
+	 * @param unit
+	 *            the time unit of {@code timeout}
+	 * @return a new scope that is cancelled when this scope is cancelled or
+	 *         the timeout elapses, whichever happens first
+	 */
+	public CancellationScope newChildScope(long timeout, TimeUnit unit) {
+		Preconditions.checkArgument(timeout >= 0,
+				"the timeout cannot be negative");
+		return new CancellationScope(handler, this, unit.toNanos(timeout));
+	}
+
+	/**
+	 * Executes a task asynchronously as part of this scope.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 * @return a {@link Future} representing pending completion of the task
+	 * @see ThreadHandler#executeRunnable(Runnable)
+	 */
+	public Future<Void> executeRunnable(Runnable r) {
+		return executeRunnable(r, TaskPriority.NORMAL, null);
+	}
+
+	/**
+	 * Executes a task asynchronously as part of this scope.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 * @param priority
+	 *            the priority of the task
+	 * @param tag
+	 *            the tag of the task, e.g. a name describing it
+	 * @return a {@link Future} representing pending completion of the task
+	 * @see ThreadHandler#executeRunnable(Runnable, TaskPriority, String)
+	 */
+	public Future<Void> executeRunnable(Runnable r, TaskPriority priority,
+			@Nullable String tag) {
+		return handler.executeRunnable(r, priority, tag, this);
+	}
+
+	/**
+	 * Cancels this scope and all of its child scopes. Tasks that haven't been
+	 * started yet won't be run; running tasks are not interrupted.
+	 * 
+	 * @see #cancelAll(boolean)
+	 */
+	public void cancelAll() {
+		cancelAll(false);
+	}
+
+	/**
+	 * Cancels this scope and all of its child scopes. Tasks that haven't been
+	 * started yet won't be run.
+	 * <p>
+	 * The queued tasks of child scopes are only skipped when they would be
+	 * started; only the tasks of this scope are interrupted.
+	 * 
+	 * @param mayInterruptIfRunning
+	 *            whether the threads executing the tasks of this scope should
+	 *            be interrupted
+	 */
+	public void cancelAll(boolean mayInterruptIfRunning) {
+		cancelled = true;
+		for (Future<Void> task : tasks) {
+			task.cancel(mayInterruptIfRunning);
+		}
+	}
+
+	/**
+	 * @return whether this scope or one of its parents was cancelled or the
+	 *         deadline has passed
+	 */
+	public boolean isCancelled() {
+		if (cancelled)
+			return true;
+		if (hasDeadline && System.nanoTime() - deadline >= 0) {
+			cancelled = true;
+			return true;
+		}
+		if (parent != null && parent.isCancelled()) {
+			cancelled = true;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Throws an exception if this scope was cancelled. Is meant to be called
+	 * regularly by long-running tasks.
+	 * 
+	 * @throws CancellationException
+	 *             if the scope was {@linkplain #isCancelled() cancelled}
+	 */
+	public void throwIfCancelled() {
+		if (isCancelled())
+			throw new CancellationException("the scope was cancelled");
+	}
+
+	/**
+	 * @return whether this scope has a deadline
+	 */
+	public boolean hasDeadline() {
+		return hasDeadline;
+	}
+
+	/**
+	 * @param unit
+	 *            the time unit of the returned value
+	 * @return the time remaining until the deadline, which may be negative if
+	 *         it has already passed; {@link Long#MAX_VALUE} if this scope
+	 *         doesn't have a deadline
+	 */
+	public long getRemainingTime(TimeUnit unit) {
+		if (!hasDeadline)
+			return Long.MAX_VALUE;
+		return unit.convert(deadline - System.nanoTime(),
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of tasks of this scope that haven't completed yet
+	 */
+	public int getPendingTaskCount() {
+		return tasks.size();
+	}
+
+}
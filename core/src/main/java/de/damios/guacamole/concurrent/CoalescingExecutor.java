@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+import de.damios.guacamole.concurrent.TaskScheduler.ScheduledTask;
+
+/**
+ * Executes tasks via a {@link ThreadHandler}, while merging tasks with the
+ * same key. This is useful for expensive tasks that are triggered in bursts,
+ * e.g. a shader recompilation triggered by a file watcher:
+ * <ul>
+ * <li>If a task is submitted while a task with the same key is still pending,
+ * it replaces the pending task, i.e. only the most recently submitted task is
+ * run.</li>
+ * <li>If a task is submitted while a task with the same key is running, it is
+ * run once the running task has completed. Tasks with the same key are never
+ * run concurrently.</li>
+ * </ul>
+ * Optionally, a debounce window can be set. Then, a task is only run once no
+ * task with the same key was submitted for the duration of the window, so a
+ * burst of submissions results in a single run.
+ * 
+ * @author damios
+ * @param <K>
+ *            the type of the keys
+ */
+@GwtIncompatible
+public final class CoalescingExecutor<K> {
+
+	private static final int STATE_PENDING = 0;
+	private static final int STATE_RUNNING = 1;
+	/**
+	 * The task is running and has to be run again afterwards.
+	 */
+	private static final int STATE_RERUN = 2;
+	private static final int STATE_REMOVED = 3;
+
+	private final ThreadHandler handler;
+	private final TaskScheduler scheduler;
+	private final long debounceWindow;
+	private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates an executor without a debounce window.
+	 * 
+	 * @param handler
+	 *            the handler executing the tasks
+	 */
+	public CoalescingExecutor(ThreadHandler handler) {
+		this(handler, 0, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Creates an executor with the given debounce window. The delays are
+	 * tracked by the {@linkplain TaskScheduler#instance() shared scheduler}.
+	 * 
+	 * @param handler
+	 *            the handler executing the tasks
+	 * @param debounceWindow
+	 *            the time that has to pass without a submission for a key
+	 *            before its task is run; {@code 0} disables debouncing
+	 * @param unit
+	 *            the time unit of {@code debounceWindow}
+	 */
+	public CoalescingExecutor(ThreadHandler handler, long debounceWindow,
+			TimeUnit unit) {
+		this(handler, TaskScheduler.instance(), debounceWindow, unit);
+	}
+
+	/**
+	 * @param handler
+	 *            the handler executing the tasks
+	 * @param scheduler
+	 *            the scheduler tracking the debounce window
+	 * @param debounceWindow
+	 *            the time that has to pass without a submission for a key
+	 *            before its task is run; {@code 0} disables debouncing
+	 * @param unit
+	 *            the time unit of {@code debounceWindow}
+	 */
+	public CoalescingExecutor(ThreadHandler handler, TaskScheduler scheduler,
+			long debounceWindow, TimeUnit unit) {
+		Preconditions.checkNotNull(handler, "handler cannot be null");
+		Preconditions.checkNotNull(scheduler, "scheduler cannot be null");
+		Preconditions.checkArgument(debounceWindow >= 0,
+				"the debounce window cannot be negative");
+
+		this.handler = handler;
+		this.scheduler = scheduler;
+		this.debounceWindow = unit.toNanos(debounceWindow);
+	}
+
+	/**
+	 * Submits a task for the given key. If a task with this key is already
+	 * pending, the task is merged into the pending run.
+	 * 
+	 * @param key
+	 *            the key; is also used as tag for the
+	 *            {@linkplain ThreadHandler#setTaskExceptionHandler(TaskExceptionHandler)
+	 *            exception handler}
+	 * @param task
+	 *            the task
+	 * @return {@code true} if a new run was scheduled; {@code false} if the
+	 *         task was merged into an already pending run
+	 * @throws RejectedExecutionException
+	 *             if the handler or scheduler was shut down
+	 */
+	public boolean execute(K key, Runnable task) {
+		Preconditions.checkNotNull(key, "key cannot be null");
+		Preconditions.checkNotNull(task, "task cannot be null");
+
+		while (true) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				Entry newEntry = new Entry(key, task);
+				synchronized (newEntry) {
+					if (entries.putIfAbsent(key, newEntry) == null) {
+						newEntry.schedule();
+						return true;
+					}
+				}
+				continue;
+			}
+
+			synchronized (entry) {
+				switch (entry.state) {
+				case STATE_PENDING:
+					entry.task = task;
+					entry.debounce();
+					return false;
+				case STATE_RUNNING:
+					entry.task = task;
+					entry.state = STATE_RERUN;
+					return true;
+				case STATE_RERUN:
+					entry.task = task;
+					return false;
+				default:
+					// the entry was removed concurrently; retry
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param key
+	 *            the key
+	 * @return whether a task with the given key is pending or running
+	 */
+	public boolean isPending(K key) {
+		return entries.containsKey(key);
+	}
+
+	/**
+	 * @return the number of keys whose tasks are pending or running
+	 */
+	public int getPendingCount() {
+		return entries.size();
+	}
+
+	/**
+	 * The state of a key. Is guarded by its own monitor.
+	 */
+	private final class Entry implements Runnable {
+
+		private final K key;
+		private final String tag;
+		private final Runnable dispatcher = this::dispatchDebounced;
+		private Runnable task;
+		private int state = STATE_PENDING;
+		private @Nullable ScheduledTask timer;
+		/**
+		 * Is incremented with every dispatch, so a late cancellation of an
+		 * earlier run isn't mistaken for one of the current run.
+		 */
+		private int dispatches = 0;
+
+		Entry(K key, Runnable task) {
+			this.key = key;
+			this.tag = String.valueOf(key);
+			this.task = task;
+		}
+
+		/**
+		 * Schedules a run. If this fails, the entry is removed.
+		 */
+		void schedule() {
+			try {
+				if (debounceWindow == 0)
+					dispatch();
+				else
+					timer = scheduler.schedule(dispatcher, debounceWindow,
+							TimeUnit.NANOSECONDS);
+			} catch (RejectedExecutionException e) {
+				remove();
+				throw e;
+			}
+		}
+
+		/**
+		 * Restarts the debounce window, if the task is still waiting for it to
+		 * elapse.
+		 */
+		void debounce() {
+			if (timer != null && timer.cancel())
+				schedule();
+		}
+
+		private void dispatch() {
+			int dispatch = ++dispatches;
+			handler.executeRunnable(this, TaskPriority.NORMAL, tag, null,
+					() -> onCancelled(dispatch));
+		}
+
+		/**
+		 * Removes the entry if the dispatched run was cancelled before it
+		 * started, e.g. because it was abandoned when the handler was shut
+		 * down. Otherwise, it would stay pending forever.
+		 */
+		private synchronized void onCancelled(int dispatch) {
+			if (state == STATE_PENDING && dispatch == dispatches)
+				remove();
+		}
+
+		private synchronized void dispatchDebounced() {
+			try {
+				dispatch();
+			} catch (RejectedExecutionException e) {
+				remove(); // the handler was shut down
+			}
+		}
+
+		private void remove() {
+			state = STATE_REMOVED;
+			entries.remove(key, this);
+		}
+
+		@Override
+		public void run() {
+			Runnable r;
+			synchronized (this) {
+				state = STATE_RUNNING;
+				timer = null;
+				r = task;
+			}
+
+			try {
+				r.run();
+			} finally {
+				synchronized (this) {
+					if (state == STATE_RERUN) {
+						state = STATE_PENDING;
+						try {
+							schedule();
+						} catch (RejectedExecutionException e) {
+							// the rerun is dropped, as the entry was removed
+						}
+					} else {
+						remove();
+					}
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Samples the CPU time used by the threads of a {@link DaemonThreadFactory}.
+ * This allows finding out which subsystem is using the processor cores, if
+ * each subsystem uses its own factory:
+ * 
+ * <pre>
+ * DaemonThreadFactory factory = new DaemonThreadFactory("Pathfinding");
+ * ThreadHandler handler = ThreadHandler.create("Pathfinding",
+ * 		PoolConfig.workStealing().withThreadFactory(factory));
+ * CpuTimeSampler sampler = new CpuTimeSampler(factory);
+ * // ...
+ * long cpuTimeSinceLastSample = sampler.sample();
+ * </pre>
+ * <p>
+ * Relies on {@link ThreadMXBean}, which is not available on all platforms
+ * (e.g. Android); see {@link #isSupported()}.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public final class CpuTimeSampler {
+
+	private final DaemonThreadFactory factory;
+	private final ThreadMXBean threadBean;
+	private Map<Long, Long> lastCpuTimes = new HashMap<>();
+
+	public CpuTimeSampler(DaemonThreadFactory factory) {
+		this.factory = factory;
+		this.threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean.isThreadCpuTimeSupported()
+				&& !threadBean.isThreadCpuTimeEnabled())
+			threadBean.setThreadCpuTimeEnabled(true);
+	}
+
+	/**
+	 * @return whether the virtual machine supports measuring the CPU time of
+	 *         threads
+	 */
+	public static boolean isSupported() {
+		try {
+			return ManagementFactory.getThreadMXBean()
+					.isThreadCpuTimeSupported();
+		} catch (LinkageError e) {
+			return false; // java.lang.management is not available
+		}
+	}
+
+	/**
+	 * @return the CPU time in nanoseconds used by the live threads of the
+	 *         factory since they were started; threads that have already
+	 *         terminated are not included
+	 */
+	public long getTotalCpuTime() {
+		long total = 0;
+		for (Thread t : factory.getLiveThreads()) {
+			long time = threadBean.getThreadCpuTime(t.getId());
+			if (time > 0)
+				total += time;
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the CPU time used by the threads of the factory since the
+	 * previous call of this method. The time a thread spent between the
+	 * previous sample and its termination is not included.
+	 * 
+	 * @return the CPU time in nanoseconds
+	 */
+	public synchronized long sample() {
+		Map<Long, Long> cpuTimes = new HashMap<>();
+		long total = 0;
+		for (Thread t : factory.getLiveThreads()) {
+			long id = t.getId();
+			long time = threadBean.getThreadCpuTime(id);
+			if (time < 0)
+				continue; // the thread has terminated in the meantime
+
+			Long last = lastCpuTimes.get(id);
+			total += time - (last == null ? 0 : last);
+			cpuTimes.put(id, time);
+		}
+		lastCpuTimes = cpuTimes;
+		return total;
+	}
+
+}
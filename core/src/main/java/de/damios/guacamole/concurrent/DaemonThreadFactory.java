@@ -15,33 +15,202 @@
 
 package de.damios.guacamole.concurrent;
 
-import java.util.concurrent.Executors;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
 import de.damios.guacamole.annotations.GwtIncompatible;
 
 /**
  * A {@link ThreadFactory} that creates {@linkplain Thread#isDaemon() daemon}
- * threads.
+ * threads. Can also be used as {@link ForkJoinWorkerThreadFactory}.
+ * <p>
+ * A factory keeps track of the {@linkplain #getLiveThreads() live threads} it
+ * created, which allows {@linkplain CpuTimeSampler sampling} how much CPU time
+ * they use. For monitoring thread churn, the number of
+ * {@linkplain #getCreatedThreadCount() created} and
+ * {@linkplain #getTerminatedThreadCount() terminated} threads is counted as
+ * well. Thread names are unique per factory. Additionally, the
+ * {@linkplain #setPriority(int) priority}, the
+ * {@linkplain #setUncaughtExceptionHandler(UncaughtExceptionHandler) uncaught
+ * exception handler} and the {@linkplain #setStackSize(long) stack size} of
+ * the threads can be configured. These options should be set before the
+ * factory is used.
  * 
  * @author damios
  */
 @GwtIncompatible
-public class DaemonThreadFactory implements ThreadFactory {
+public class DaemonThreadFactory
+		implements ThreadFactory, ForkJoinWorkerThreadFactory {
 
-	private String name;
-	private int i = 0;
+	private final String name;
+	private final AtomicInteger i = new AtomicInteger();
+	private final AtomicLong terminatedThreads = new AtomicLong();
+	private final ThreadGroup group;
+	private final Set<Thread> liveThreads = ConcurrentHashMap.newKeySet();
+	private int priority = Thread.NORM_PRIORITY;
+	private @Nullable UncaughtExceptionHandler uncaughtExceptionHandler;
+	private long stackSize = 0;
 
 	public DaemonThreadFactory(String name) {
 		this.name = name + " ";
+		// no group of its own, as it would have to be destroyed explicitly
+		this.group = Thread.currentThread().getThreadGroup();
+	}
+
+	/**
+	 * @param priority
+	 *            the priority of the created threads; the default is
+	 *            {@link Thread#NORM_PRIORITY}
+	 * @return this factory for chaining
+	 */
+	public DaemonThreadFactory setPriority(int priority) {
+		Preconditions.checkArgument(
+				priority >= Thread.MIN_PRIORITY
+						&& priority <= Thread.MAX_PRIORITY,
+				"the priority has to be between Thread.MIN_PRIORITY and Thread.MAX_PRIORITY");
+		this.priority = priority;
+		return this;
+	}
+
+	/**
+	 * @param uncaughtExceptionHandler
+	 *            the handler invoked when a created thread terminates due to
+	 *            an uncaught exception; if {@code null}, the default handler
+	 *            is used
+	 * @return this factory for chaining
+	 */
+	public DaemonThreadFactory setUncaughtExceptionHandler(
+			@Nullable UncaughtExceptionHandler uncaughtExceptionHandler) {
+		this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+		return this;
+	}
+
+	/**
+	 * Sets the stack size of the created threads, e.g. to allow deep
+	 * recursion. Is not supported for {@linkplain ForkJoinWorkerThread fork
+	 * join worker threads} and may be ignored by the virtual machine on some
+	 * platforms.
+	 * 
+	 * @param stackSize
+	 *            the desired stack size in bytes; {@code 0} means the default
+	 *            stack size of the virtual machine
+	 * @return this factory for chaining
+	 * @see Thread#Thread(ThreadGroup, Runnable, String, long)
+	 */
+	public DaemonThreadFactory setStackSize(long stackSize) {
+		Preconditions.checkArgument(stackSize >= 0,
+				"the stack size cannot be negative");
+		this.stackSize = stackSize;
+		return this;
+	}
+
+	/**
+	 * Returns the thread group of the threads created by this factory, i.e.
+	 * the group of the thread that created the factory. Is not used for
+	 * {@linkplain ForkJoinWorkerThread fork join worker threads}, as their
+	 * group cannot be set.
+	 * 
+	 * @return the thread group
+	 */
+	public ThreadGroup getThreadGroup() {
+		return group;
+	}
+
+	/**
+	 * @return an unmodifiable view of the threads created by this factory that
+	 *         have been started and have not terminated yet
+	 */
+	public Set<Thread> getLiveThreads() {
+		return Collections.unmodifiableSet(liveThreads);
+	}
+
+	/**
+	 * @return the number of threads created by this factory so far
+	 */
+	public long getCreatedThreadCount() {
+		return i.get();
+	}
+
+	/**
+	 * @return the number of threads created by this factory that have
+	 *         terminated
+	 */
+	public long getTerminatedThreadCount() {
+		return terminatedThreads.get();
 	}
 
 	@Override
 	public Thread newThread(Runnable r) {
-		Thread t = Executors.defaultThreadFactory().newThread(r);
-		t.setName(name + i++);
-		t.setDaemon(true);
+		Thread t = new Thread(group, () -> {
+			// only registered once started, so threads that are never
+			// started aren't retained
+			onStart(Thread.currentThread());
+			try {
+				r.run();
+			} finally {
+				onTermination(Thread.currentThread());
+			}
+		}, name + i.getAndIncrement(), stackSize);
+		configure(t);
 		return t;
 	}
 
+	@Override
+	public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+		ForkJoinWorkerThread t = new WorkerThread(pool);
+		t.setName(name + i.getAndIncrement());
+		configure(t);
+		return t;
+	}
+
+	private void configure(Thread t) {
+		t.setDaemon(true);
+		t.setPriority(priority);
+		if (uncaughtExceptionHandler != null)
+			t.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+	}
+
+	private void onStart(Thread t) {
+		liveThreads.add(t);
+	}
+
+	private void onTermination(Thread t) {
+		liveThreads.remove(t);
+		terminatedThreads.incrementAndGet();
+	}
+
+	private class WorkerThread extends ForkJoinWorkerThread {
+
+		WorkerThread(ForkJoinPool pool) {
+			super(pool);
+		}
+
+		@Override
+		protected void onStart() {
+			DaemonThreadFactory.this.onStart(this);
+			super.onStart();
+		}
+
+		@Override
+		protected void onTermination(@Nullable Throwable exception) {
+			try {
+				super.onTermination(exception);
+			} finally {
+				DaemonThreadFactory.this.onTermination(this);
+			}
+		}
+
+	}
+
 }
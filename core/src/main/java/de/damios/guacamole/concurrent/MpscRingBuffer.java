@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A {@link RingBuffer} for multiple producers and a single consumer.
+ * <p>
+ * Producers claim a slot by incrementing the tail sequence via CAS. As a
+ * claimed slot isn't necessarily filled yet, every slot additionally has its
+ * own sequence: it is {@code n} if the slot is free for the producer of
+ * element {@code n} and {@code n + 1} once that element was published.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class MpscRingBuffer<E> extends RingBuffer<E> {
+
+	private final AtomicLongArray slotSequences;
+
+	MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+		super(capacity, waitStrategy);
+		this.slotSequences = new AtomicLongArray(buffer.length);
+		for (int i = 0; i < buffer.length; i++) {
+			slotSequences.lazySet(i, i);
+		}
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Preconditions.checkNotNull(e, "the element cannot be null");
+
+		while (true) {
+			long t = tail.get();
+			int index = (int) t & mask;
+			long diff = slotSequences.get(index) - t;
+
+			if (diff == 0) {
+				if (tail.compareAndSet(t, t + 1)) {
+					buffer[index] = e;
+					slotSequences.lazySet(index, t + 1); // publishes the element
+					return true;
+				}
+			} else if (diff < 0) {
+				return false; // the slot wasn't freed by the consumer yet
+			}
+			// otherwise, another producer claimed the slot in the meantime
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable E poll() {
+		long h = head.get();
+		int index = (int) h & mask;
+		if (slotSequences.get(index) != h + 1)
+			return null;
+
+		E e = (E) buffer[index];
+		buffer[index] = null;
+		slotSequences.lazySet(index, h + buffer.length); // frees the slot
+		head.setOrdered(h + 1);
+		return e;
+	}
+
+	@Override
+	public int drainTo(Consumer<? super E> consumer, int max) {
+		int count = 0;
+		E e;
+		while (count < max && (e = poll()) != null) {
+			consumer.accept(e);
+			count++;
+		}
+		return count;
+	}
+
+}
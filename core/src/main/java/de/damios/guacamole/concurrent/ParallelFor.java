@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * The shared state of a {@link ThreadHandler#parallelFor(int, int, int,
+ * IntConsumer) parallel for loop}. The index range is split into chunks, which
+ * are claimed one after another by all participating threads, including the
+ * calling one. Thus, the loop completes even if no pool thread is available,
+ * e.g. because it is called from within a task of a bounded pool.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class ParallelFor implements Runnable {
+
+	/**
+	 * Caps the number of chunks, so that the chunk counter, which every
+	 * participating thread increments once more after the last chunk, cannot
+	 * overflow. Larger ranges are split into larger chunks.
+	 */
+	private static final int MAX_CHUNKS = 1 << 30;
+
+	private final int from;
+	private final int to;
+	private final int chunkSize;
+	private final int chunkCount;
+	private final IntConsumer body;
+
+	private final AtomicInteger nextChunk = new AtomicInteger();
+	private final AtomicInteger completedChunks = new AtomicInteger();
+	private final CountDownLatch done = new CountDownLatch(1);
+	private volatile @Nullable Throwable failure;
+
+	ParallelFor(int from, int to, int chunkSize, IntConsumer body) {
+		long span = (long) to - from;
+		this.from = from;
+		this.to = to;
+		this.chunkSize = (int) Math.max(chunkSize,
+				(span + MAX_CHUNKS - 1) / MAX_CHUNKS);
+		this.chunkCount = (int) ((span + this.chunkSize - 1)
+				/ this.chunkSize);
+		this.body = body;
+	}
+
+	/**
+	 * Runs the loop on the given handler and the calling thread and blocks
+	 * until all chunks are processed.
+	 * 
+	 * @param handler
+	 * @param helpers
+	 *            the maximum number of pool threads to use
+	 * @throws CompletionException
+	 *             if the body threw a checked exception
+	 */
+	void invoke(ThreadHandler handler, int helpers) {
+		for (int i = 0; i < Math.min(helpers, chunkCount - 1); i++) {
+			try {
+				handler.executeRunnable(this);
+			} catch (RejectedExecutionException e) {
+				break; // the calling thread does the remaining work
+			}
+		}
+		run();
+
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		Throwable t = failure;
+		if (t instanceof RuntimeException)
+			throw (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		if (t != null) // a checked exception thrown by sneaky means
+			throw new CompletionException(t);
+	}
+
+	@Override
+	public void run() {
+		int completed = 0;
+		int chunk;
+		while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+			completed++;
+			if (failure != null) {
+				// Skip the remaining chunks at once
+				int next = nextChunk.getAndSet(chunkCount);
+				completed += Math.max(0, chunkCount - next);
+				break;
+			}
+			try {
+				int start = (int) (from + (long) chunk * chunkSize);
+				int end = (int) Math.min((long) start + chunkSize, to);
+				for (int i = start; i < end; i++) {
+					body.accept(i);
+				}
+			} catch (Throwable t) {
+				if (failure == null)
+					failure = t;
+			}
+		}
+
+		if (completed > 0
+				&& completedChunks.addAndGet(completed) == chunkCount)
+			done.countDown();
+	}
+
+}
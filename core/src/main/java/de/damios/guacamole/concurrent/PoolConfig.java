@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Describes the thread pool backing a {@link ThreadHandler}. Instances are
+ * immutable and can be obtained via the static factory methods.
+ *
+ * @author damios
+ * @see ThreadHandler#create(String, PoolConfig)
+ */
+@GwtIncompatible
+public final class PoolConfig {
+
+	public enum Mode {
+		/**
+		 * A {@linkplain Executors#newCachedThreadPool() cached thread pool}:
+		 * previously constructed threads are reused, if available, otherwise
+		 * new threads are created. The number of threads is unbounded.
+		 */
+		CACHED,
+		/**
+		 * A {@linkplain ForkJoinPool work-stealing pool} with a fixed
+		 * parallelism. Tasks submitted while all threads are busy are queued
+		 * instead of spawning new threads.
+		 */
+		WORK_STEALING,
+		/**
+		 * Every task is executed on its own virtual thread. This is well suited
+		 * for a large number of tasks that mostly block on I/O. Virtual threads
+		 * require Java 21+; on older runtimes, a {@linkplain #CACHED cached
+		 * thread pool} is used instead.
+		 */
+		VIRTUAL,
+		/**
+		 * A pool with a fixed number of threads, where queued tasks are
+		 * executed in the order of their {@linkplain TaskPriority priority}.
+		 * Waiting tasks age, i.e. they are treated as being one priority level
+		 * higher for every {@linkplain PoolConfig#getAgingInterval() aging
+		 * interval} they have been waiting, so low priority tasks cannot
+		 * starve.
+		 */
+		PRIORITY
+	}
+
+	/**
+	 * @return the configuration used by {@link ThreadHandler#instance()}
+	 */
+	public static PoolConfig cached() {
+		return new PoolConfig(Mode.CACHED, 0, 0);
+	}
+
+	/**
+	 * @return a work-stealing configuration whose parallelism is the number of
+	 *         {@linkplain Runtime#availableProcessors() available processors}
+	 */
+	public static PoolConfig workStealing() {
+		return workStealing(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param parallelism
+	 *            the maximum number of threads actively executing tasks
+	 * @return a work-stealing configuration with the given parallelism
+	 */
+	public static PoolConfig workStealing(int parallelism) {
+		Preconditions.checkArgument(parallelism > 0,
+				"the parallelism has to be positive");
+		return new PoolConfig(Mode.WORK_STEALING, parallelism, 0);
+	}
+
+	/**
+	 * @return a configuration using virtual threads, if the runtime supports
+	 *         them
+	 * @see Mode#VIRTUAL
+	 */
+	public static PoolConfig virtual() {
+		return new PoolConfig(Mode.VIRTUAL, 0, 0);
+	}
+
+	/**
+	 * @return a prioritized configuration whose parallelism is the number of
+	 *         {@linkplain Runtime#availableProcessors() available processors}
+	 *         and whose aging interval is 500 ms
+	 * @see Mode#PRIORITY
+	 */
+	public static PoolConfig prioritized() {
+		return prioritized(Runtime.getRuntime().availableProcessors(), 500,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @param parallelism
+	 *            the number of threads
+	 * @param agingInterval
+	 *            the time after which a waiting task is treated as being one
+	 *            priority level higher
+	 * @param unit
+	 *            the time unit of {@code agingInterval}
+	 * @return a prioritized configuration
+	 * @see Mode#PRIORITY
+	 */
+	public static PoolConfig prioritized(int parallelism, long agingInterval,
+			TimeUnit unit) {
+		Preconditions.checkArgument(parallelism > 0,
+				"the parallelism has to be positive");
+		Preconditions.checkArgument(agingInterval > 0,
+				"the aging interval has to be positive");
+		return new PoolConfig(Mode.PRIORITY, parallelism,
+				unit.toNanos(agingInterval));
+	}
+
+	private final Mode mode;
+	private final int parallelism;
+	private final long agingInterval;
+	private final @Nullable DaemonThreadFactory threadFactory;
+
+	private PoolConfig(Mode mode, int parallelism, long agingInterval) {
+		this(mode, parallelism, agingInterval, null);
+	}
+
+	private PoolConfig(Mode mode, int parallelism, long agingInterval,
+			@Nullable DaemonThreadFactory threadFactory) {
+		this.mode = mode;
+		this.parallelism = parallelism;
+		this.agingInterval = agingInterval;
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Returns a copy of this configuration that creates its threads via the
+	 * given factory. This allows configuring the threads, e.g. their
+	 * {@linkplain DaemonThreadFactory#setStackSize(long) stack size}. Is
+	 * ignored if {@linkplain Mode#VIRTUAL virtual threads} are used.
+	 * 
+	 * @param threadFactory
+	 *            the factory
+	 * @return the new configuration
+	 */
+	public PoolConfig withThreadFactory(DaemonThreadFactory threadFactory) {
+		Preconditions.checkNotNull(threadFactory,
+				"threadFactory cannot be null");
+		return new PoolConfig(mode, parallelism, agingInterval, threadFactory);
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * @return the parallelism of the pool; {@code 0} if it is unbounded
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the aging interval in nanoseconds; {@code 0} if the pool is not
+	 *         {@linkplain Mode#PRIORITY prioritized}
+	 */
+	public long getAgingInterval() {
+		return agingInterval;
+	}
+
+	/**
+	 * @return the factory used to create the threads of the pool; if
+	 *         {@code null}, a new {@link DaemonThreadFactory} is used
+	 */
+	public @Nullable DaemonThreadFactory getThreadFactory() {
+		return threadFactory;
+	}
+
+	@Override
+	public String toString() {
+		return "PoolConfig{mode=" + mode + ",parallelism=" + parallelism
+				+ ",agingInterval=" + agingInterval + "}";
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A bounded queue backed by a pre-allocated array, e.g. to pass decoded
+ * packets from a network thread to the game loop. In contrast to a
+ * {@link java.util.concurrent.ConcurrentLinkedQueue}, no nodes are allocated
+ * per element, which reduces the pressure on the garbage collector at high
+ * message rates.
+ * <p>
+ * There are two variants:
+ * <ul>
+ * <li>{@linkplain #singleProducer(int, WaitStrategy) single producer}: only
+ * one thread at a time may add elements; this is the fastest variant, as it
+ * doesn't need any atomic read-modify-write operations</li>
+ * <li>{@linkplain #multiProducer(int, WaitStrategy) multi producer}: any
+ * number of threads may add elements concurrently</li>
+ * </ul>
+ * In both cases, only one thread at a time may remove elements. The consumer
+ * can be a task executed by a {@link ThreadHandler}, see
+ * {@link #startConsumer(ThreadHandler, Consumer, int)}.
+ * <p>
+ * The {@link WaitStrategy} determines how the blocking methods wait for the
+ * buffer to become non-empty or non-full.
+ * <p>
+ * {@code null} elements are not permitted.
+ * 
+ * @author damios
+ * @param <E>
+ *            the type of the elements
+ */
+@GwtIncompatible
+public abstract class RingBuffer<E> {
+
+	final Object[] buffer;
+	final int mask;
+	final WaitStrategy waitStrategy;
+	final Sequence head = new Sequence(0);
+	final Sequence tail = new Sequence(0);
+
+	RingBuffer(int capacity, WaitStrategy waitStrategy) {
+		Preconditions.checkArgument(capacity > 0 && capacity <= 1 << 30,
+				"the capacity has to be between 1 and 2^30");
+		Preconditions.checkNotNull(waitStrategy,
+				"waitStrategy cannot be null");
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+			size <<= 1;
+		this.buffer = new Object[size];
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Creates a ring buffer for a single producer and a single consumer.
+	 * 
+	 * @param <E>
+	 *            the type of the elements
+	 * @param capacity
+	 *            the capacity; is rounded up to the next power of two
+	 * @param waitStrategy
+	 *            the strategy used by the blocking methods
+	 * @return the new ring buffer
+	 */
+	public static <E> RingBuffer<E> singleProducer(int capacity,
+			WaitStrategy waitStrategy) {
+		return new SpscRingBuffer<>(capacity, waitStrategy);
+	}
+
+	/**
+	 * Creates a ring buffer for multiple producers and a single consumer.
+	 * 
+	 * @param <E>
+	 *            the type of the elements
+	 * @param capacity
+	 *            the capacity; is rounded up to the next power of two
+	 * @param waitStrategy
+	 *            the strategy used by the blocking methods
+	 * @return the new ring buffer
+	 */
+	public static <E> RingBuffer<E> multiProducer(int capacity,
+			WaitStrategy waitStrategy) {
+		return new MpscRingBuffer<>(capacity, waitStrategy);
+	}
+
+	/**
+	 * Adds an element, if there is space for it.
+	 * 
+	 * @param e
+	 *            the element
+	 * @return {@code false} if the buffer is full
+	 */
+	public abstract boolean offer(E e);
+
+	/**
+	 * Removes the next element.
+	 * 
+	 * @return the element; {@code null} if the buffer is empty
+	 */
+	public abstract @Nullable E poll();
+
+	/**
+	 * Removes up to {@code max} elements and passes them to the given consumer.
+	 * This is cheaper than polling the elements one by one.
+	 * 
+	 * @param consumer
+	 *            the consumer
+	 * @param max
+	 *            the maximum number of elements to remove
+	 * @return the number of removed elements
+	 */
+	public abstract int drainTo(Consumer<? super E> consumer, int max);
+
+	/**
+	 * Adds an element. If the buffer is full, waits according to the
+	 * {@link WaitStrategy} until there is space.
+	 * 
+	 * @param e
+	 *            the element
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public void put(E e) throws InterruptedException {
+		while (!offer(e)) {
+			if (Thread.interrupted())
+				throw new InterruptedException();
+			waitStrategy.idle();
+		}
+	}
+
+	/**
+	 * Removes the next element. If the buffer is empty, waits according to
+	 * the {@link WaitStrategy} until there is one.
+	 * 
+	 * @return the element
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public E take() throws InterruptedException {
+		E e;
+		while ((e = poll()) == null) {
+			if (Thread.interrupted())
+				throw new InterruptedException();
+			waitStrategy.idle();
+		}
+		return e;
+	}
+
+	/**
+	 * Starts a task that continuously passes the elements of this buffer to
+	 * the given consumer. The task becomes the single consumer of this
+	 * buffer; it runs until it is cancelled via the returned future. With
+	 * {@code cancel(false)}, the current batch is completed first.
+	 * <p>
+	 * As the task occupies a thread for as long as it runs, the handler should
+	 * not have a small, bounded pool.
+	 * 
+	 * @param handler
+	 *            the handler executing the task
+	 * @param consumer
+	 *            the consumer
+	 * @param batchSize
+	 *            the maximum number of elements
+	 *            {@linkplain #drainTo(Consumer, int) drained} at once
+	 * @return the future of the task; is used to stop it
+	 */
+	public Future<Void> startConsumer(ThreadHandler handler,
+			Consumer<? super E> consumer, int batchSize) {
+		Preconditions.checkNotNull(consumer, "consumer cannot be null");
+		Preconditions.checkArgument(batchSize > 0,
+				"the batch size has to be positive");
+
+		ConsumerTask task = new ConsumerTask(consumer, batchSize);
+		Future<Void> future = handler.executeRunnable(task);
+		task.future = future;
+		return future;
+	}
+
+	private final class ConsumerTask implements Runnable {
+
+		private final Consumer<? super E> consumer;
+		private final int batchSize;
+		/**
+		 * Is checked to stop the task, as {@code cancel(false)} doesn't
+		 * interrupt it. Is {@code null} until the task was submitted.
+		 */
+		private volatile @Nullable Future<Void> future;
+
+		ConsumerTask(Consumer<? super E> consumer, int batchSize) {
+			this.consumer = consumer;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public void run() {
+			while (!Thread.currentThread().isInterrupted()) {
+				Future<Void> f = future;
+				if (f != null && f.isCancelled())
+					return;
+				if (drainTo(consumer, batchSize) == 0)
+					waitStrategy.idle();
+			}
+		}
+
+	}
+
+	/**
+	 * @return the approximate number of elements in the buffer
+	 */
+	public int size() {
+		// Read the head first, so the size can't be negative
+		long h = head.get();
+		long size = tail.get() - h;
+		return (int) Math.max(0, Math.min(size, buffer.length));
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public int capacity() {
+		return buffer.length;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A sequence counter that is padded to occupy a cache line on its own. This
+ * prevents false sharing, i.e. a producer and a consumer updating their
+ * counters don't invalidate each other's cache lines.
+ * <p>
+ * The padding is spread over the class hierarchy, as the JVM doesn't reorder
+ * fields across classes.
+ * <p>
+ * Additionally, the sequence holds a plain {@linkplain #cache cached value}
+ * for the thread owning it, e.g. the last seen value of the opposite counter.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class Sequence extends SequenceRhsPadding {
+
+	private static final AtomicLongFieldUpdater<SequenceValue> UPDATER = AtomicLongFieldUpdater
+			.newUpdater(SequenceValue.class, "value");
+
+	Sequence(long initialValue) {
+		this.value = initialValue;
+	}
+
+	long get() {
+		return value;
+	}
+
+	/**
+	 * Sets the value with release semantics, which is cheaper than a volatile
+	 * write. This is sufficient if there is only one writer.
+	 */
+	void setOrdered(long newValue) {
+		UPDATER.lazySet(this, newValue);
+	}
+
+	boolean compareAndSet(long expected, long newValue) {
+		return UPDATER.compareAndSet(this, expected, newValue);
+	}
+
+}
+
+@GwtIncompatible
+abstract class SequenceLhsPadding {
+	long p01, p02, p03, p04, p05, p06, p07;
+}
+
+@GwtIncompatible
+abstract class SequenceValue extends SequenceLhsPadding {
+	volatile long value;
+	/**
+	 * Is only accessed by the thread owning the sequence.
+	 */
+	long cache;
+}
+
+@GwtIncompatible
+abstract class SequenceRhsPadding extends SequenceValue {
+	long p11, p12, p13, p14, p15, p16, p17;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A {@link RingBuffer} for a single producer and a single consumer.
+ * <p>
+ * Both sides only write their own sequence, so no atomic read-modify-write
+ * operations are necessary. Additionally, each side caches the last seen
+ * value of the opposite sequence and only re-reads it if the buffer appears
+ * to be full or empty.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class SpscRingBuffer<E> extends RingBuffer<E> {
+
+	SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+		super(capacity, waitStrategy);
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Preconditions.checkNotNull(e, "the element cannot be null");
+
+		long t = tail.get();
+		if (t - tail.cache >= buffer.length) {
+			tail.cache = head.get();
+			if (t - tail.cache >= buffer.length)
+				return false;
+		}
+
+		buffer[(int) t & mask] = e;
+		tail.setOrdered(t + 1); // publishes the element
+		return true;
+	}
+
+	@Override
+	public @Nullable E poll() {
+		long h = head.get();
+		if (h >= head.cache) {
+			head.cache = tail.get();
+			if (h >= head.cache)
+				return null;
+		}
+
+		return remove(h);
+	}
+
+	@SuppressWarnings("unchecked")
+	private E remove(long h) {
+		int index = (int) h & mask;
+		E e = (E) buffer[index];
+		buffer[index] = null;
+		head.setOrdered(h + 1); // frees the slot
+		return e;
+	}
+
+	@Override
+	public int drainTo(Consumer<? super E> consumer, int max) {
+		long h = head.get();
+		if (head.cache - h < max) // there may be more elements by now
+			head.cache = tail.get();
+		if (h >= head.cache)
+			return 0;
+
+		int count = (int) Math.min(head.cache - h, max);
+		for (int i = 0; i < count; i++) {
+			consumer.accept(remove(h + i));
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import de.damios.guacamole.Histogram;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Makes a {@link Histogram} usable from multiple threads. Values are recorded
+ * into one of several stripes, each of which is a histogram guarded by its own
+ * monitor, so concurrently recording threads rarely contend. The stripes are
+ * merged when the values are read.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class StripedHistogram {
+
+	/**
+	 * About 6% relative error, while keeping the stripes small.
+	 */
+	private static final int PRECISION_BITS = 4;
+	private static final int MAX_STRIPES = 8;
+
+	private final Histogram[] stripes;
+	private final int mask;
+
+	StripedHistogram() {
+		int count = Integer.highestOneBit(Math.min(MAX_STRIPES,
+				Runtime.getRuntime().availableProcessors()) * 2 - 1);
+		this.stripes = new Histogram[count];
+		this.mask = count - 1;
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Histogram(PRECISION_BITS);
+		}
+	}
+
+	/**
+	 * @param value
+	 *            the value; negative values are recorded as {@code 0}
+	 */
+	void record(long value) {
+		Histogram stripe = stripes[(int) Thread.currentThread().getId()
+				& mask];
+		synchronized (stripe) {
+			stripe.record(Math.max(0, value));
+		}
+	}
+
+	/**
+	 * @return a new histogram containing the values of all stripes; is not an
+	 *         atomic snapshot if values are recorded concurrently
+	 */
+	Histogram merge() {
+		Histogram result = new Histogram(PRECISION_BITS);
+		for (Histogram stripe : stripes) {
+			synchronized (stripe) {
+				result.add(stripe);
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.Future;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Handles exceptions thrown by tasks executed via a {@link ThreadHandler}.
+ * 
+ * @author damios
+ * @see ThreadHandler#setTaskExceptionHandler(TaskExceptionHandler)
+ */
+@GwtIncompatible
+@FunctionalInterface
+public interface TaskExceptionHandler {
+
+	/**
+	 * Is called on the thread that executed the failed task or, if the task
+	 * was cancelled, on the cancelling thread.
+	 * 
+	 * @param tag
+	 *            the tag the task was
+	 *            {@linkplain ThreadHandler#executeRunnable(Runnable, TaskPriority, String)
+	 *            submitted} with; can be used to identify the source of the
+	 *            failure
+	 * @param task
+	 *            the failed task; is also the {@link Future} that was returned
+	 *            when it was submitted
+	 * @param exception
+	 *            the exception thrown by the task
+	 */
+	public void onException(@Nullable String tag, Runnable task,
+			Throwable exception);
+
+}
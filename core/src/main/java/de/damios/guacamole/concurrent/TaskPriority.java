@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * The priority of a task submitted to a {@link ThreadHandler}. Priorities are
+ * only taken into account by handlers using a
+ * {@linkplain PoolConfig#prioritized() prioritized pool}.
+ * 
+ * @author damios
+ * @see ThreadHandler#executeRunnable(Runnable, TaskPriority)
+ */
+@GwtIncompatible
+public enum TaskPriority {
+
+	/**
+	 * For work that can be deferred, e.g. prefetching.
+	 */
+	LOW,
+	/**
+	 * The priority of tasks submitted without an explicit priority.
+	 */
+	NORMAL,
+	/**
+	 * For work that something else is directly waiting on.
+	 */
+	HIGH;
+
+}
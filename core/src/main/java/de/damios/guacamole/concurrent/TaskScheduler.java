@@ -0,0 +1,476 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Schedules delayed and periodic tasks, e.g. an autosave every 60 seconds or
+ * cache sweeps. When due, tasks are executed by a {@link ThreadHandler}, so
+ * this class only needs a single thread for itself, no matter how many tasks
+ * are scheduled. A {@linkplain #instance() shared instance} dispatching to
+ * {@link ThreadHandler#instance()} is available.
+ * <p>
+ * The scheduled tasks are kept in a hashed timing wheel: a ring of buckets,
+ * one of which is processed every tick. A task is put in the bucket of the
+ * tick it is due in, together with the number of rounds the wheel has to turn
+ * before that. This way, scheduling and cancelling a task take constant time,
+ * so thousands of timers stay cheap. In return, tasks are executed with a
+ * precision of one {@linkplain #TaskScheduler(String, ThreadHandler, long,
+ * TimeUnit, int) tick}; they are never executed early, though.
+ * <p>
+ * The thread processing the wheel is only started when the first task is
+ * scheduled. While no tasks are scheduled, it is parked.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public final class TaskScheduler {
+
+	private static final TaskScheduler instance = new TaskScheduler(
+			"TaskScheduler", ThreadHandler.instance());
+
+	private static final int STATE_CREATED = 0;
+	private static final int STATE_STARTED = 1;
+	private static final int STATE_SHUTDOWN = 2;
+
+	private final ThreadHandler handler;
+	private final long tickDuration;
+	private final ScheduledTask[] wheel;
+	private final int mask;
+	private final Queue<ScheduledTask> newTasks = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingTasks = new AtomicInteger();
+	private final AtomicInteger state = new AtomicInteger(STATE_CREATED);
+	private final Thread workerThread;
+	private final List<Runnable> unprocessedTasks = new ArrayList<>();
+	/**
+	 * The time the scheduler was created at; all deadlines are relative to
+	 * it.
+	 */
+	private final long startTime = System.nanoTime();
+	/**
+	 * The number of tasks in the wheel. Only accessed by the scheduler thread.
+	 */
+	private int wheelTaskCount = 0;
+	/**
+	 * Whether the scheduler thread is about to park or parked because there
+	 * are no tasks. In this case, it has to be woken up when a task is added.
+	 */
+	private volatile boolean idle = false;
+
+	public static TaskScheduler instance() {
+		return instance;
+	}
+
+	/**
+	 * Creates a scheduler with a tick duration of 10 ms and 512 buckets.
+	 * 
+	 * @param name
+	 *            the name of the scheduler thread
+	 * @param handler
+	 *            the handler executing the due tasks
+	 */
+	public TaskScheduler(String name, ThreadHandler handler) {
+		this(name, handler, 10, TimeUnit.MILLISECONDS, 512);
+	}
+
+	/**
+	 * @param name
+	 *            the name of the scheduler thread
+	 * @param handler
+	 *            the handler executing the due tasks
+	 * @param tickDuration
+	 *            the precision with which tasks are executed
+	 * @param unit
+	 *            the time unit of {@code tickDuration}
+	 * @param wheelSize
+	 *            the number of buckets; is rounded up to the next power of two
+	 */
+	public TaskScheduler(String name, ThreadHandler handler, long tickDuration,
+			TimeUnit unit, int wheelSize) {
+		Preconditions.checkNotNull(handler, "handler cannot be null");
+		Preconditions.checkArgument(tickDuration > 0,
+				"the tick duration has to be positive");
+		Preconditions.checkArgument(wheelSize > 0 && wheelSize <= 1 << 30,
+				"the wheel size has to be between 1 and 2^30");
+
+		this.handler = handler;
+		this.tickDuration = unit.toNanos(tickDuration);
+		int size = Integer.highestOneBit(wheelSize);
+		if (size < wheelSize)
+			size <<= 1;
+		this.wheel = new ScheduledTask[size];
+		this.mask = size - 1;
+		this.workerThread = new DaemonThreadFactory(name)
+				.newThread(this::processWheel);
+	}
+
+	/**
+	 * Schedules a task to be executed once after the given delay.
+	 * 
+	 * @param task
+	 *            the task to execute
+	 * @param delay
+	 *            the time after which the task is executed
+	 * @param unit
+	 *            the time unit of {@code delay}
+	 * @return a handle that can be used to cancel the task
+	 * @throws RejectedExecutionException
+	 *             if the scheduler was shut down
+	 */
+	public ScheduledTask schedule(Runnable task, long delay, TimeUnit unit) {
+		return schedule(task, delay, 0, false, unit);
+	}
+
+	/**
+	 * Schedules a task to be executed periodically. The first execution takes
+	 * place after {@code initialDelay}, the subsequent ones every
+	 * {@code period}, independent of how long the task takes.
+	 * 
+	 * @param task
+	 *            the task to execute
+	 * @param initialDelay
+	 *            the time after which the task is executed for the first time
+	 * @param period
+	 *            the time between the starts of subsequent executions
+	 * @param unit
+	 *            the time unit of {@code initialDelay} and {@code period}
+	 * @return a handle that can be used to cancel the task
+	 * @throws RejectedExecutionException
+	 *             if the scheduler was shut down
+	 */
+	public ScheduledTask scheduleAtFixedRate(Runnable task, long initialDelay,
+			long period, TimeUnit unit) {
+		Preconditions.checkArgument(period > 0,
+				"the period has to be positive");
+		return schedule(task, initialDelay, period, false, unit);
+	}
+
+	/**
+	 * Schedules a task to be executed periodically. The first execution takes
+	 * place after {@code initialDelay}, the subsequent ones {@code delay} after
+	 * the previous execution has finished. Thus, executions never overlap.
+	 * 
+	 * @param task
+	 *            the task to execute
+	 * @param initialDelay
+	 *            the time after which the task is executed for the first time
+	 * @param delay
+	 *            the time between the end of an execution and the start of
+	 *            the next one
+	 * @param unit
+	 *            the time unit of {@code initialDelay} and {@code delay}
+	 * @return a handle that can be used to cancel the task
+	 * @throws RejectedExecutionException
+	 *             if the scheduler was shut down
+	 */
+	public ScheduledTask scheduleWithFixedDelay(Runnable task,
+			long initialDelay, long delay, TimeUnit unit) {
+		Preconditions.checkArgument(delay > 0, "the delay has to be positive");
+		return schedule(task, initialDelay, delay, true, unit);
+	}
+
+	private ScheduledTask schedule(Runnable task, long delay, long period,
+			boolean fixedDelay, TimeUnit unit) {
+		Preconditions.checkNotNull(task, "task cannot be null");
+		start();
+
+		ScheduledTask scheduledTask = new ScheduledTask(task,
+				deadline(System.nanoTime() - startTime, unit.toNanos(delay)),
+				unit.toNanos(period), fixedDelay);
+		pendingTasks.incrementAndGet();
+		enqueue(scheduledTask);
+		return scheduledTask;
+	}
+
+	/**
+	 * @return {@code time + delay}; is capped at {@link Long#MAX_VALUE}
+	 *         instead of overflowing, e.g. for delays of
+	 *         {@link Long#MAX_VALUE} days
+	 */
+	private static long deadline(long time, long delay) {
+		long deadline = time + delay;
+		if (((time ^ deadline) & (delay ^ deadline)) < 0)
+			return delay > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+		return deadline;
+	}
+
+	private void start() {
+		switch (state.get()) {
+		case STATE_CREATED:
+			if (state.compareAndSet(STATE_CREATED, STATE_STARTED))
+				workerThread.start();
+			break;
+		case STATE_STARTED:
+			break;
+		default:
+			throw new RejectedExecutionException(
+					"the scheduler was shut down");
+		}
+	}
+
+	/**
+	 * Hands a task over to the scheduler thread.
+	 */
+	private void enqueue(ScheduledTask task) {
+		newTasks.add(task);
+		if (idle)
+			LockSupport.unpark(workerThread);
+	}
+
+	/**
+	 * Stops the scheduler. Tasks that are not due yet are discarded and
+	 * {@linkplain ScheduledTask#cancel() cancelled}; tasks that were already
+	 * dispatched to the handler are not affected, apart from periodic tasks
+	 * not being executed again.
+	 * 
+	 * @return the discarded tasks, including periodic ones
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for the scheduler thread to
+	 *             stop
+	 */
+	public List<Runnable> shutdown() throws InterruptedException {
+		if (state.getAndSet(STATE_SHUTDOWN) != STATE_STARTED)
+			return Collections.emptyList();
+
+		LockSupport.unpark(workerThread);
+		workerThread.join();
+		return unprocessedTasks;
+	}
+
+	/**
+	 * @return the number of scheduled tasks that were neither executed nor
+	 *         cancelled yet; periodic tasks are pending until they are
+	 *         cancelled
+	 */
+	public int getPendingTaskCount() {
+		return pendingTasks.get();
+	}
+
+	private void processWheel() {
+		long tick = currentTick();
+
+		while (state.get() == STATE_STARTED) {
+			if (wheelTaskCount == 0 && newTasks.isEmpty()) {
+				idle = true;
+				// Re-check after publishing the flag: either a scheduling
+				// thread sees it and unparks this thread or the new task is
+				// seen here
+				if (newTasks.isEmpty() && state.get() == STATE_STARTED)
+					LockSupport.park(this);
+				idle = false;
+				// The ticks in between can be skipped, as the wheel is empty
+				tick = Math.max(tick, currentTick());
+				continue;
+			}
+
+			long deadline = startTime + (tick + 1) * tickDuration;
+			long sleepTime;
+			while ((sleepTime = deadline - System.nanoTime()) > 0
+					&& state.get() == STATE_STARTED) {
+				LockSupport.parkNanos(this, sleepTime);
+			}
+			if (state.get() != STATE_STARTED)
+				break;
+
+			transferNewTasks(tick);
+			processBucket((int) (tick & mask), tick);
+			tick++;
+		}
+
+		// Collect the remaining tasks
+		for (ScheduledTask head : wheel) {
+			for (ScheduledTask t = head; t != null; t = t.next) {
+				if (t.cancel())
+					unprocessedTasks.add(t.task);
+			}
+		}
+		ScheduledTask t;
+		while ((t = newTasks.poll()) != null) {
+			if (t.cancel())
+				unprocessedTasks.add(t.task);
+		}
+	}
+
+	private long currentTick() {
+		return (System.nanoTime() - startTime) / tickDuration;
+	}
+
+	private void transferNewTasks(long currentTick) {
+		ScheduledTask task;
+		while ((task = newTasks.poll()) != null) {
+			if (!task.isCancelled())
+				addToWheel(task, currentTick);
+		}
+	}
+
+	private void addToWheel(ScheduledTask task, long currentTick) {
+		long dueTick = task.deadline / tickDuration;
+		task.remainingRounds = (dueTick - currentTick) / wheel.length;
+		int index = (int) (Math.max(dueTick, currentTick) & mask);
+
+		task.prev = null;
+		task.next = wheel[index];
+		if (wheel[index] != null)
+			wheel[index].prev = task;
+		wheel[index] = task;
+		task.bucket = index;
+		wheelTaskCount++;
+	}
+
+	private void removeFromWheel(ScheduledTask task) {
+		if (task.prev != null)
+			task.prev.next = task.next;
+		else
+			wheel[task.bucket] = task.next;
+		if (task.next != null)
+			task.next.prev = task.prev;
+		task.next = null;
+		task.prev = null;
+		wheelTaskCount--;
+	}
+
+	private void processBucket(int index, long currentTick) {
+		ScheduledTask task = wheel[index];
+		while (task != null) {
+			ScheduledTask next = task.next;
+
+			if (task.isCancelled()) {
+				removeFromWheel(task);
+			} else if (task.remainingRounds <= 0) {
+				removeFromWheel(task);
+				dispatch(task, currentTick);
+			} else {
+				task.remainingRounds--;
+			}
+
+			task = next;
+		}
+	}
+
+	private void dispatch(ScheduledTask task, long currentTick) {
+		if (task.period == 0) {
+			if (!task.state.compareAndSet(ScheduledTask.STATE_WAITING,
+					ScheduledTask.STATE_EXPIRED))
+				return; // was cancelled concurrently
+			pendingTasks.decrementAndGet();
+		} else if (!task.fixedDelay) {
+			task.deadline = deadline(task.deadline, task.period);
+			addToWheel(task, currentTick + 1);
+		}
+
+		try {
+			handler.executeRunnable(task);
+		} catch (RejectedExecutionException e) {
+			// The handler was shut down; periodic tasks are stopped
+			task.cancel();
+		}
+	}
+
+	/**
+	 * A task scheduled via a {@link TaskScheduler}.
+	 */
+	public final class ScheduledTask implements Runnable {
+
+		private static final int STATE_WAITING = 0;
+		private static final int STATE_CANCELLED = 1;
+		private static final int STATE_EXPIRED = 2;
+
+		private final Runnable task;
+		private final long period;
+		private final boolean fixedDelay;
+		private final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+
+		// Only accessed by the scheduler thread
+		private long deadline;
+		private long remainingRounds;
+		private int bucket;
+		private @Nullable ScheduledTask prev;
+		private @Nullable ScheduledTask next;
+
+		private ScheduledTask(Runnable task, long deadline, long period,
+				boolean fixedDelay) {
+			this.task = task;
+			this.deadline = deadline;
+			this.period = period;
+			this.fixedDelay = fixedDelay;
+		}
+
+		/**
+		 * Cancels this task, i.e. it won't be executed anymore. An execution
+		 * that is already in progress is not interrupted.
+		 * 
+		 * @return {@code false} if the task was already cancelled or executed
+		 */
+		public boolean cancel() {
+			if (state.compareAndSet(STATE_WAITING, STATE_CANCELLED)) {
+				pendingTasks.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		public boolean isCancelled() {
+			return state.get() == STATE_CANCELLED;
+		}
+
+		/**
+		 * @return whether this task is periodic
+		 */
+		public boolean isPeriodic() {
+			return period != 0;
+		}
+
+		/**
+		 * Executes the task. Is called by the {@link ThreadHandler}.
+		 */
+		@Override
+		public void run() {
+			if (isCancelled())
+				return;
+
+			try {
+				task.run();
+			} finally {
+				if (fixedDelay && !isCancelled()) {
+					deadline = deadline(System.nanoTime() - startTime,
+							period);
+					enqueue(this);
+					// If the scheduler was shut down in the meantime, the task
+					// would never be executed again
+					if (TaskScheduler.this.state.get() == STATE_SHUTDOWN
+							&& newTasks.remove(this))
+						cancel();
+				}
+			}
+		}
+
+	}
+
+}
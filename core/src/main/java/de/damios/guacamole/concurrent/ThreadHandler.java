@@ -15,93 +15,589 @@
 
 package de.damios.guacamole.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.IntRange;
+import de.damios.guacamole.Preconditions;
 import de.damios.guacamole.annotations.GwtIncompatible;
 
 /**
  * A class handling the execution of typically short-lived asynchronous tasks.
- * For this, a {@linkplain Executors#newCachedThreadPool() cached thread pool}
+ * By default, a {@linkplain Executors#newCachedThreadPool() cached thread pool}
  * is used, i.e. previously constructed threads will be reused, if available,
  * otherwise new threads are created. Threads that have not been used for sixty
  * seconds are terminated and removed from the cache. Thus, a
  * {@link ThreadHandler} that remains idle for long enough will not consume any
  * resources.
+ * <p>
+ * If a lot of tasks are submitted at once, a cached thread pool creates just
+ * as many threads. In such cases, a handler with a bounded pool can be
+ * {@linkplain #create(String, PoolConfig) created} instead, e.g. via
+ * {@link PoolConfig#workStealing()}. For tasks mostly blocking on I/O,
+ * {@linkplain PoolConfig#virtual() virtual threads} can be used on Java 21+.
+ * If some tasks are more urgent than others, a
+ * {@linkplain PoolConfig#prioritized() prioritized pool} executes queued tasks
+ * by their {@linkplain TaskPriority priority}.
+ * <p>
+ * As a thread handler is an {@link Executor}, it can be used to run the
+ * continuations of {@link CompletableFuture}s, see
+ * {@link #supplyAsync(Supplier)}.
+ * <p>
+ * For data-parallel work, e.g. updating a lot of entities, see
+ * {@link #parallelFor(int, int, IntConsumer)}.
+ * <p>
+ * Tasks that may become obsolete, e.g. because they load a level that gets
+ * unloaded, can be grouped in a {@linkplain #newScope() cancellation scope}.
+ * <p>
+ * To make sure that pending tasks complete before the application exits, a
+ * handler can be {@linkplain #shutdown(long, TimeUnit) shut down}.
  * 
  * @author damios
  */
 @GwtIncompatible
-public class ThreadHandler {
+public class ThreadHandler implements Executor {
 
 	private static final ThreadHandler instance = new ThreadHandler(
-			"ThreadHandler");
-	private final ThreadPoolExecutor cachedPool;
-	private BiConsumer<Runnable, Throwable> exceptionHandler;
-
-	private ThreadHandler(String name) {
-		// See Executors#newCachedThreadPool
-		this.cachedPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
-				TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
-				new DaemonThreadFactory(name)) {
-			@Override
-			protected void afterExecute(Runnable r, Throwable t) {
-				super.afterExecute(r, t);
-
-				if (exceptionHandler != null) {
-					// See https://stackoverflow.com/a/2248203
-					if (t == null && r instanceof Future<?>) {
-						try {
-							Future<?> future = (Future<?>) r;
-							if (future.isDone()) {
-								future.get();
-							}
-						} catch (CancellationException ce) {
-							t = ce;
-						} catch (ExecutionException ee) {
-							t = ee.getCause();
-						} catch (InterruptedException ie) {
-							Thread.currentThread().interrupt();
-						}
-					}
-					if (t != null) {
-						exceptionHandler.accept(r, t);
-					}
-				}
-			}
-		};
+			"ThreadHandler", PoolConfig.cached());
+	private final ExecutorService executor;
+	private final @Nullable VirtualThreadFactory virtualThreadFactory;
+	private final long agingInterval;
+	/**
+	 * The number of threads used by {@link #parallelFor(int, int, IntConsumer)}.
+	 */
+	private final int parallelism;
+	/**
+	 * The number of queued tasks per priority; is only tracked for prioritized
+	 * pools.
+	 */
+	private final @Nullable AtomicIntegerArray queuedTasks;
+	/**
+	 * The number of tasks that were submitted, but have not completed yet.
+	 */
+	private final AtomicLong pendingTasks = new AtomicLong();
+	private final Object quiescenceLock = new Object();
+	private volatile @Nullable TaskExceptionHandler exceptionHandler;
+	private volatile @Nullable ThreadHandlerMetrics metrics;
+
+	private ThreadHandler(String name, PoolConfig config) {
+		VirtualThreadFactory virtualFactory = null;
+		ExecutorService virtualExecutor = null;
+		if (config.getMode() == PoolConfig.Mode.VIRTUAL) {
+			virtualFactory = VirtualThreadFactory.create(name);
+			if (virtualFactory != null)
+				virtualExecutor = virtualFactory.newThreadPerTaskExecutor();
+		}
+
+		if (virtualExecutor != null) {
+			this.executor = virtualExecutor;
+			this.virtualThreadFactory = virtualFactory;
+		} else if (config.getMode() == PoolConfig.Mode.WORK_STEALING) {
+			this.executor = new DrainableForkJoinPool(config.getParallelism(),
+					getThreadFactory(name, config));
+			this.virtualThreadFactory = null;
+		} else if (config.getMode() == PoolConfig.Mode.PRIORITY) {
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(
+					config.getParallelism(), config.getParallelism(), 60L,
+					TimeUnit.SECONDS, new PriorityBlockingQueue<Runnable>(),
+					getThreadFactory(name, config));
+			pool.allowCoreThreadTimeOut(true);
+			this.executor = pool;
+			this.virtualThreadFactory = null;
+		} else {
+			// See Executors#newCachedThreadPool; is also used as fallback if
+			// virtual threads are not supported
+			this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
+					TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+					getThreadFactory(name, config));
+			this.virtualThreadFactory = null;
+		}
+
+		this.parallelism = config.getParallelism() > 0
+				? config.getParallelism()
+				: Runtime.getRuntime().availableProcessors();
+
+		if (config.getMode() == PoolConfig.Mode.PRIORITY) {
+			this.agingInterval = config.getAgingInterval();
+			this.queuedTasks = new AtomicIntegerArray(
+					TaskPriority.values().length);
+		} else {
+			this.agingInterval = 0;
+			this.queuedTasks = null;
+		}
+	}
+
+	private static DaemonThreadFactory getThreadFactory(String name,
+			PoolConfig config) {
+		DaemonThreadFactory threadFactory = config.getThreadFactory();
+		return threadFactory != null ? threadFactory
+				: new DaemonThreadFactory(name);
 	}
 
 	public static ThreadHandler instance() {
 		return instance;
 	}
 
+	/**
+	 * Creates a new thread handler backed by its own thread pool. Unlike the
+	 * {@linkplain #instance() shared instance}, this allows configuring the
+	 * pool, e.g. to limit the number of threads.
+	 * 
+	 * @param name
+	 *            the name prefix of the created threads; is ignored if the
+	 *            configuration specifies a
+	 *            {@linkplain PoolConfig#withThreadFactory(DaemonThreadFactory)
+	 *            thread factory}
+	 * @param config
+	 *            the configuration of the pool
+	 * @return the new thread handler
+	 */
+	public static ThreadHandler create(String name, PoolConfig config) {
+		Preconditions.checkNotNull(name, "name cannot be null");
+		Preconditions.checkNotNull(config, "config cannot be null");
+		return new ThreadHandler(name, config);
+	}
+
+	/**
+	 * Sets the handler that is notified of exceptions thrown by tasks as well
+	 * as of cancelled tasks.
+	 * 
+	 * @param exceptionHandler
+	 *            the handler; is called with the failed task and its exception
+	 * @see #setTaskExceptionHandler(TaskExceptionHandler)
+	 */
 	public void setExceptionHandler(
-			BiConsumer<Runnable, Throwable> exceptionHandler) {
+			@Nullable BiConsumer<Runnable, Throwable> exceptionHandler) {
+		this.exceptionHandler = exceptionHandler == null ? null
+				: (tag, task, t) -> exceptionHandler.accept(task, t);
+	}
+
+	/**
+	 * Sets the handler that is notified of exceptions thrown by tasks as well
+	 * as of cancelled tasks. In addition to the failed task, the handler
+	 * receives the tag the task was submitted with.
+	 * 
+	 * @param exceptionHandler
+	 *            the handler
+	 * @see #executeRunnable(Runnable, TaskPriority, String)
+	 */
+	public void setTaskExceptionHandler(
+			@Nullable TaskExceptionHandler exceptionHandler) {
 		this.exceptionHandler = exceptionHandler;
 	}
 
+	/**
+	 * Sets the recorder for the metrics of the tasks executed from now on.
+	 * Metrics are disabled by default.
+	 * 
+	 * @param metrics
+	 *            the recorder; can be shared between multiple handlers;
+	 *            {@code null} disables recording metrics
+	 */
+	public void setMetrics(@Nullable ThreadHandlerMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public @Nullable ThreadHandlerMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Executes a task asynchronously.
 	 * <p>
-	 * For this, a {@linkplain Executors#newCachedThreadPool() cached thread
-	 * pool} is used, i.e. previously constructed threads will be reused, if
-	 * available, otherwise new threads are created. All threads are daemon
-	 * threads, so they don't prevent the JVM from exiting.
+	 * For this, the pool of this handler is used; in case of the
+	 * {@linkplain #instance() shared instance} this is a
+	 * {@linkplain Executors#newCachedThreadPool() cached thread pool}, i.e.
+	 * previously constructed threads will be reused, if available, otherwise
+	 * new threads are created. All threads are daemon threads, so they don't
+	 * prevent the JVM from exiting.
 	 * 
 	 * @param r
 	 *            the task to execute
 	 * @return a {@link Future} representing pending completion of the task
 	 */
-	@SuppressWarnings("unchecked")
 	public Future<Void> executeRunnable(Runnable r) {
-		return (Future<Void>) cachedPool.submit(r);
+		return executeRunnable(r, TaskPriority.NORMAL);
+	}
+
+	/**
+	 * Executes a task asynchronously with the given priority.
+	 * <p>
+	 * The priority is only taken into account if this handler uses a
+	 * {@linkplain PoolConfig#prioritized() prioritized pool}. There, queued
+	 * tasks are started highest priority first; tasks that have been waiting
+	 * for a long time are treated as being of higher priority, so they don't
+	 * starve.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 * @param priority
+	 *            the priority of the task
+	 * @return a {@link Future} representing pending completion of the task
+	 */
+	public Future<Void> executeRunnable(Runnable r, TaskPriority priority) {
+		return executeRunnable(r, priority, null);
+	}
+
+	/**
+	 * Executes a task asynchronously with the given priority. If the task
+	 * fails, its tag is passed on to the
+	 * {@linkplain #setTaskExceptionHandler(TaskExceptionHandler) exception
+	 * handler}, so the failure can be tied to its source.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 * @param priority
+	 *            the priority of the task
+	 * @param tag
+	 *            the tag of the task, e.g. a name describing it
+	 * @return a {@link Future} representing pending completion of the task
+	 * @see #executeRunnable(Runnable, TaskPriority)
+	 */
+	public Future<Void> executeRunnable(Runnable r, TaskPriority priority,
+			@Nullable String tag) {
+		return executeRunnable(r, priority, tag, null);
+	}
+
+	Future<Void> executeRunnable(Runnable r, TaskPriority priority,
+			@Nullable String tag, @Nullable CancellationScope scope) {
+		return executeRunnable(r, priority, tag, scope, null);
+	}
+
+	/**
+	 * @param onCancelled
+	 *            is run once the task is cancelled, e.g. because it was
+	 *            abandoned when shutting down; is not run if the task is
+	 *            rejected
+	 */
+	Future<Void> executeRunnable(Runnable r, TaskPriority priority,
+			@Nullable String tag, @Nullable CancellationScope scope,
+			@Nullable Runnable onCancelled) {
+		Task task = new Task(r, priority, tag, scope, onCancelled);
+		if (queuedTasks != null)
+			queuedTasks.incrementAndGet(priority.ordinal());
+		pendingTasks.incrementAndGet();
+		if (scope != null) {
+			scope.tasks.add(task);
+			// The scope may have been cancelled concurrently
+			if (scope.isCancelled()) {
+				task.cancel(false); // the task is accounted for in done()
+				if (queuedTasks != null)
+					queuedTasks.decrementAndGet(priority.ordinal());
+				return task;
+			}
+		}
+		try {
+			if (executor instanceof ForkJoinPool)
+				((ForkJoinPool) executor).execute(new TaskAction(task));
+			else
+				executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			// Unless the scope was cancelled in the meantime, which already
+			// accounted for the task
+			if (task.finished.compareAndSet(false, true))
+				task.onFinished();
+			if (scope != null)
+				scope.tasks.remove(task);
+			if (queuedTasks != null)
+				queuedTasks.decrementAndGet(priority.ordinal());
+			if (task.metrics != null)
+				task.metrics.onRejected();
+			throw e;
+		}
+		if (task.metrics != null)
+			task.metrics.onSubmit();
+		return task;
+	}
+
+	/**
+	 * Creates a new scope for tasks executed by this handler. The tasks of a
+	 * scope can be cancelled all at once.
+	 * 
+	 * @return the new scope
+	 * @see CancellationScope
+	 */
+	public CancellationScope newScope() {
+		return new CancellationScope(this, null, -1);
+	}
+
+	/**
+	 * Creates a new scope for tasks executed by this handler, which is
+	 * cancelled automatically once the timeout elapses.
+	 * 
+	 * @param timeout
+	 *            the time after which the scope is cancelled
+	 * @param unit
+	 *            the time unit of {@code timeout}
+	 * @return the new scope
+	 * @see CancellationScope
+	 */
+	public CancellationScope newScope(long timeout, TimeUnit unit) {
+		Preconditions.checkArgument(timeout >= 0,
+				"the timeout cannot be negative");
+		return new CancellationScope(this, null, unit.toNanos(timeout));
+	}
+
+	/**
+	 * Executes a task asynchronously. Is equivalent to
+	 * {@link #executeRunnable(Runnable)}, but doesn't return a future.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 */
+	@Override
+	public void execute(Runnable r) {
+		executeRunnable(r);
+	}
+
+	/**
+	 * Asynchronously computes a value. The returned future can be used to
+	 * chain further computations without blocking. Continuations can run on
+	 * this handler or on any other {@link Executor}, e.g. on the render thread:
+	 * 
+	 * <pre>
+	 * handler.supplyAsync(() -&gt; decode(file))
+	 * 		.thenApplyAsync(data -&gt; postProcess(data), handler)
+	 * 		.thenAcceptAsync(data -&gt; upload(data), renderThreadExecutor);
+	 * </pre>
+	 * <p>
+	 * Exceptions thrown by the supplier complete the returned future
+	 * exceptionally; they are not passed on to the
+	 * {@linkplain #setExceptionHandler(BiConsumer) exception handler}.
+	 * 
+	 * @param <T>
+	 *            the type of the computed value
+	 * @param supplier
+	 *            the function computing the value
+	 * @return the future completed with the computed value
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, this);
+	}
+
+	/**
+	 * Asynchronously computes a value with the given priority.
+	 * 
+	 * @param <T>
+	 *            the type of the computed value
+	 * @param supplier
+	 *            the function computing the value
+	 * @param priority
+	 *            the priority of the task
+	 * @return the future completed with the computed value
+	 * @see #supplyAsync(Supplier)
+	 * @see #executeRunnable(Runnable, TaskPriority)
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier,
+			TaskPriority priority) {
+		return CompletableFuture.supplyAsync(supplier,
+				r -> executeRunnable(r, priority));
+	}
+
+	/**
+	 * Executes a task asynchronously. In contrast to
+	 * {@link #executeRunnable(Runnable)}, the returned future can be used to
+	 * chain further computations without blocking.
+	 * 
+	 * @param r
+	 *            the task to execute
+	 * @return the future completed after the task was run
+	 * @see #supplyAsync(Supplier)
+	 */
+	public CompletableFuture<Void> runAsync(Runnable r) {
+		return CompletableFuture.runAsync(r, this);
+	}
+
+	/**
+	 * Executes {@code body} for every index in {@code [from, to)} in parallel
+	 * and blocks until all indices are processed. The range is split into
+	 * chunks, four times as many as the parallelism of the pool (or the number
+	 * of available processors, if the pool is unbounded), to balance uneven
+	 * workloads.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param body
+	 *            the loop body; has to be thread-safe
+	 * @see #parallelFor(int, int, int, IntConsumer)
+	 */
+	public void parallelFor(int from, int to, IntConsumer body) {
+		long count = (long) to - from;
+		long chunks = parallelism * 4L;
+		parallelFor(from, to, (int) Math.max(1, (count + chunks - 1) / chunks),
+				body);
+	}
+
+	/**
+	 * Executes {@code body} for every index in {@code [from, to)} in parallel
+	 * and blocks until all indices are processed. The range is split into
+	 * chunks of the given size, which are processed by the threads of this
+	 * handler as well as the calling thread. Apart from that, no allocations
+	 * take place; in particular, nothing is allocated per index.
+	 * <p>
+	 * If {@code body} throws an exception, the remaining chunks are skipped and
+	 * the exception is rethrown after all running chunks have completed.
+	 * Checked exceptions are wrapped in a {@link CompletionException}.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param chunkSize
+	 *            the number of consecutive indices processed by a thread at
+	 *            once; is increased if the range would be split into more than
+	 *            2<sup>30</sup> chunks
+	 * @param body
+	 *            the loop body; has to be thread-safe
+	 */
+	public void parallelFor(int from, int to, int chunkSize,
+			IntConsumer body) {
+		Preconditions.checkArgument(chunkSize > 0,
+				"the chunk size has to be positive");
+		Preconditions.checkNotNull(body, "body cannot be null");
+		if (from >= to)
+			return;
+
+		new ParallelFor(from, to, chunkSize, body).invoke(this,
+				parallelism - 1);
+	}
+
+	/**
+	 * Executes {@code body} for every index in the given range in parallel and
+	 * blocks until all indices are processed.
+	 * 
+	 * @param range
+	 *            the range of indices
+	 * @param body
+	 *            the loop body; has to be thread-safe
+	 * @see #parallelFor(int, int, IntConsumer)
+	 */
+	public void parallelFor(IntRange range, IntConsumer body) {
+		int min = range.getMin();
+		int max = range.getMax();
+		// max + 1 would overflow
+		Preconditions.checkArgument(max < Integer.MAX_VALUE,
+				"the range cannot contain Integer.MAX_VALUE");
+		if (min > max)
+			return;
+		parallelFor(min, max + 1, body);
+	}
+
+	/**
+	 * Blocks until all submitted tasks have completed or the timeout elapses.
+	 * In contrast to {@link #shutdown(long, TimeUnit)}, new tasks are still
+	 * accepted. Tasks that were cancelled while running count as completed
+	 * only once they have returned.
+	 * <p>
+	 * Shouldn't be called from a task executed by this handler, as that task
+	 * is pending itself.
+	 * 
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param unit
+	 *            the time unit of {@code timeout}
+	 * @return {@code true} if there are no pending tasks; {@code false} if the
+	 *         timeout elapsed before that
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public boolean awaitQuiescence(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (quiescenceLock) {
+			while (pendingTasks.get() > 0) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0)
+					return false;
+				TimeUnit.NANOSECONDS.timedWait(quiescenceLock, remaining);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Shuts this handler down. New tasks are rejected right away, while the
+	 * already submitted tasks can complete within the given timeout. After
+	 * that, the threads still executing tasks are interrupted and all tasks
+	 * that haven't been started yet are abandoned. Abandoned tasks are
+	 * cancelled, i.e. they are also reported to the
+	 * {@linkplain #setTaskExceptionHandler(TaskExceptionHandler) exception
+	 * handler}, together with their tag.
+	 * <p>
+	 * Note that shutting down the {@linkplain #instance() shared instance}
+	 * affects every user of it. A handler cannot be restarted once it is shut
+	 * down.
+	 * 
+	 * @param timeout
+	 *            the maximum time to wait for the submitted tasks to complete
+	 * @param unit
+	 *            the time unit of {@code timeout}
+	 * @return the abandoned tasks, i.e. the tasks that were never started; the
+	 *         list is empty if all tasks completed in time
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public List<Runnable> shutdown(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		executor.shutdown();
+		if (executor.awaitTermination(timeout, unit))
+			return Collections.emptyList();
+
+		List<Runnable> queued = new ArrayList<>();
+		if (executor instanceof DrainableForkJoinPool) {
+			((DrainableForkJoinPool) executor).drainQueuedTasks(queued);
+		}
+		queued.addAll(executor.shutdownNow());
+
+		List<Runnable> abandoned = new ArrayList<>(queued.size());
+		for (Runnable r : queued) {
+			Task task = (Task) r;
+			if (task.cancel(false))
+				abandoned.add(task.runnable);
+		}
+		return abandoned;
+	}
+
+	/**
+	 * @return whether this handler was {@linkplain #shutdown(long, TimeUnit)
+	 *         shut down}
+	 */
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+
+	/**
+	 * @return the number of tasks that were submitted, but have not completed
+	 *         yet
+	 */
+	public long getPendingTaskCount() {
+		return pendingTasks.get();
 	}
 
 	/**
@@ -111,16 +607,253 @@ public class ThreadHandler {
 	 * @return the number of active threads
 	 */
 	public int getActiveThreadCount() {
-		return cachedPool.getActiveCount();
+		if (virtualThreadFactory != null)
+			return virtualThreadFactory.getLiveThreadCount();
+		if (executor instanceof ForkJoinPool)
+			return ((ForkJoinPool) executor).getActiveThreadCount();
+		return ((ThreadPoolExecutor) executor).getActiveCount();
+	}
+
+	/**
+	 * Returns the number of tasks with the given priority that are waiting to
+	 * be executed. Queued tasks are only tracked if this handler uses a
+	 * {@linkplain PoolConfig#prioritized() prioritized pool}; otherwise, this
+	 * always returns {@code 0}.
+	 *
+	 * @param priority
+	 * @return the number of queued tasks
+	 */
+	public int getQueuedTaskCount(TaskPriority priority) {
+		return queuedTasks == null ? 0 : queuedTasks.get(priority.ordinal());
 	}
 
 	/**
-	 * Returns the number of threads currently in the thread pool.
+	 * Returns the number of threads currently in the thread pool. If
+	 * {@linkplain #isUsingVirtualThreads() virtual threads} are used, this is
+	 * the number of live virtual threads.
 	 *
 	 * @return the current number of threads
 	 */
 	public int getPoolSize() {
-		return cachedPool.getPoolSize();
+		if (virtualThreadFactory != null)
+			return virtualThreadFactory.getLiveThreadCount();
+		if (executor instanceof ForkJoinPool)
+			return ((ForkJoinPool) executor).getPoolSize();
+		return ((ThreadPoolExecutor) executor).getPoolSize();
+	}
+
+	/**
+	 * @return whether this handler executes its tasks on virtual threads; is
+	 *         {@code false} if they were requested, but the runtime doesn't
+	 *         support them
+	 * @see PoolConfig#virtual()
+	 */
+	public boolean isUsingVirtualThreads() {
+		return virtualThreadFactory != null;
+	}
+
+	/**
+	 * A task that passes any exception it completes with on to the
+	 * {@linkplain #setTaskExceptionHandler(TaskExceptionHandler) exception
+	 * handler}. This works independently of the kind of pool the task is
+	 * executed on. Exceptions are captured where they are set, so nothing has
+	 * to be done for tasks that complete normally.
+	 * <p>
+	 * In prioritized pools, tasks are ordered by their enqueue time, shifted
+	 * back by one aging interval per priority level. Thus, a task is run before
+	 * tasks of higher priority that were submitted more than the
+	 * corresponding number of aging intervals after it. As this key is fixed,
+	 * it can be used in a heap.
+	 */
+	private class Task extends FutureTask<Void> implements Comparable<Task> {
+
+		private final Runnable runnable;
+		private final TaskPriority priority;
+		private final @Nullable String tag;
+		private final @Nullable CancellationScope scope;
+		private final @Nullable Runnable onCancelled;
+		private final long sortKey;
+		private final @Nullable ThreadHandlerMetrics metrics;
+		private final long submitTime;
+		private boolean failed = false;
+		/**
+		 * Whether the task was accounted for as no longer pending. This is
+		 * done exactly once: after {@link #run()} has returned if the task
+		 * was started, or in {@link #done()} if it was cancelled before.
+		 */
+		private final AtomicBoolean finished = new AtomicBoolean();
+
+		Task(Runnable r, TaskPriority priority, @Nullable String tag,
+				@Nullable CancellationScope scope,
+				@Nullable Runnable onCancelled) {
+			super(r, null);
+			this.runnable = r;
+			this.priority = priority;
+			this.tag = tag;
+			this.scope = scope;
+			this.onCancelled = onCancelled;
+			this.metrics = ThreadHandler.this.metrics;
+			this.submitTime = metrics == null && queuedTasks == null ? 0
+					: System.nanoTime();
+			this.sortKey = submitTime - priority.ordinal() * agingInterval;
+		}
+
+		@Override
+		public void run() {
+			if (queuedTasks != null)
+				queuedTasks.decrementAndGet(priority.ordinal());
+
+			// Tasks cancelled before they were started are already finished
+			boolean started = finished.compareAndSet(false, true);
+			try {
+				runInScope();
+			} finally {
+				if (started)
+					onFinished();
+			}
+		}
+
+		private void runInScope() {
+			if (scope == null) {
+				runMeasured();
+				return;
+			}
+
+			if (scope.isCancelled()) {
+				cancel(false); // obsolete, e.g. because the deadline passed
+				return;
+			}
+			CancellationScope previous = CancellationScope.CURRENT.get();
+			CancellationScope.CURRENT.set(scope);
+			try {
+				runMeasured();
+			} finally {
+				CancellationScope.CURRENT.set(previous);
+			}
+		}
+
+		private void runMeasured() {
+			if (metrics == null || isDone()) {
+				super.run();
+				return;
+			}
+
+			long startTime = System.nanoTime();
+			metrics.onStart(startTime - submitTime);
+			try {
+				super.run();
+			} finally {
+				long executionTime = System.nanoTime() - startTime;
+				metrics.onEnd(executionTime, failed);
+				if (scope != null && scope.isCancelled())
+					metrics.onWasted(executionTime);
+			}
+		}
+
+		@Override
+		public int compareTo(Task other) {
+			return Long.signum(sortKey - other.sortKey);
+		}
+
+		@Override
+		protected void setException(Throwable t) {
+			failed = true;
+			super.setException(t);
+			if (!isCancelled()) // the task may have been cancelled concurrently
+				onException(t);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled)
+				onException(new CancellationException());
+			return cancelled;
+		}
+
+		@Override
+		protected void done() {
+			// Counted here, so the metrics are up to date once quiescence is
+			// signalled
+			if (metrics != null && isCancelled())
+				metrics.onCancelled();
+			if (scope != null)
+				scope.tasks.remove(this);
+			if (onCancelled != null && isCancelled())
+				onCancelled.run();
+			// A running task that got cancelled is only finished once it
+			// has returned
+			if (finished.compareAndSet(false, true))
+				onFinished();
+		}
+
+		private void onFinished() {
+			if (pendingTasks.decrementAndGet() == 0) {
+				synchronized (quiescenceLock) {
+					quiescenceLock.notifyAll();
+				}
+			}
+		}
+
+		private void onException(Throwable t) {
+			TaskExceptionHandler handler = exceptionHandler;
+			if (handler != null)
+				handler.onException(tag, this, t);
+		}
+
+	}
+
+	/**
+	 * Wraps a {@link Task} so it can be submitted to a {@link ForkJoinPool}
+	 * without an additional adapter. This way, the task can be retrieved again
+	 * when the pool is {@linkplain DrainableForkJoinPool drained}.
+	 */
+	@SuppressWarnings("serial")
+	private static final class TaskAction extends ForkJoinTask<Void> {
+
+		private final Task task;
+
+		TaskAction(Task task) {
+			this.task = task;
+		}
+
+		@Override
+		public Void getRawResult() {
+			return null;
+		}
+
+		@Override
+		protected void setRawResult(Void value) {
+			// not needed
+		}
+
+		@Override
+		protected boolean exec() {
+			task.run(); // exceptions are captured by the task itself
+			return true;
+		}
+
+	}
+
+	/**
+	 * A {@link ForkJoinPool} whose queued tasks can be retrieved on shutdown.
+	 */
+	private static final class DrainableForkJoinPool extends ForkJoinPool {
+
+		DrainableForkJoinPool(int parallelism,
+				ForkJoinWorkerThreadFactory factory) {
+			super(parallelism, factory, null, true);
+		}
+
+		void drainQueuedTasks(List<Runnable> tasks) {
+			List<ForkJoinTask<?>> drained = new ArrayList<>();
+			drainTasksTo(drained);
+			for (ForkJoinTask<?> t : drained) {
+				if (t instanceof TaskAction)
+					tasks.add(((TaskAction) t).task);
+			}
+		}
+
 	}
 
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.damios.guacamole.Histogram;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Records metrics of the tasks executed by one or more {@link ThreadHandler}s.
+ * Metrics are opt-in, i.e. nothing is recorded until the recorder is
+ * {@linkplain ThreadHandler#setMetrics(ThreadHandlerMetrics) set}.
+ * <p>
+ * Recording uses striped counters and {@linkplain Histogram histograms}, so
+ * the pool threads rarely contend. {@linkplain #snapshot() Snapshots} can be
+ * taken from any thread, e.g. a monitoring thread, without blocking the pool.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public final class ThreadHandlerMetrics {
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder cancelled = new LongAdder();
+	private final LongAdder wastedTime = new LongAdder();
+	private final AtomicInteger runningTasks = new AtomicInteger();
+	private final AtomicInteger peakRunningTasks = new AtomicInteger();
+	private final StripedHistogram queueLatency = new StripedHistogram();
+	private final StripedHistogram executionTime = new StripedHistogram();
+
+	/**
+	 * The start of the current throughput window.
+	 */
+	private volatile Window window = new Window(System.nanoTime(), 0);
+
+	void onSubmit() {
+		submitted.increment();
+	}
+
+	void onRejected() {
+		rejected.increment();
+	}
+
+	void onCancelled() {
+		cancelled.increment();
+	}
+
+	/**
+	 * Is called for tasks whose {@linkplain CancellationScope scope} got
+	 * cancelled while they were running, i.e. whose result is likely not
+	 * needed anymore.
+	 */
+	void onWasted(long executionTimeNanos) {
+		wastedTime.add(executionTimeNanos);
+	}
+
+	void onStart(long queueLatencyNanos) {
+		queueLatency.record(queueLatencyNanos);
+
+		int running = runningTasks.incrementAndGet();
+		int peak;
+		while (running > (peak = peakRunningTasks.get())) {
+			if (peakRunningTasks.compareAndSet(peak, running))
+				break;
+		}
+	}
+
+	void onEnd(long executionTimeNanos, boolean hasFailed) {
+		runningTasks.decrementAndGet();
+		executionTime.record(executionTimeNanos);
+		completed.increment();
+		if (hasFailed)
+			failed.increment();
+	}
+
+	/**
+	 * Starts a new throughput window, i.e. the throughput of later snapshots
+	 * only covers the tasks completed from now on. Can e.g. be called after
+	 * every snapshot taken by a monitoring thread.
+	 */
+	public void rollThroughputWindow() {
+		window = new Window(System.nanoTime(), completed.sum());
+	}
+
+	/**
+	 * Takes a snapshot of the current metrics. Doesn't change any state, so
+	 * snapshots can be taken by multiple threads. The throughput is calculated
+	 * for the current {@linkplain #rollThroughputWindow() window}.
+	 * 
+	 * @return the snapshot
+	 */
+	public Snapshot snapshot() {
+		Window w = window;
+		long now = System.nanoTime();
+		long completedCount = completed.sum();
+		double throughput = (completedCount - w.completed)
+				/ (Math.max(1, now - w.startTime)
+						/ (double) TimeUnit.SECONDS.toNanos(1));
+
+		Histogram latencies = queueLatency.merge();
+		Histogram times = executionTime.merge();
+		return new Snapshot(submitted.sum(), completedCount, failed.sum(),
+				rejected.sum(), cancelled.sum(), wastedTime.sum(),
+				runningTasks.get(), peakRunningTasks.get(),
+				throughput,
+				latencies.getValueAtPercentile(50),
+				latencies.getValueAtPercentile(99),
+				times.getValueAtPercentile(50), times.getValueAtPercentile(99));
+	}
+
+	private static final class Window {
+
+		private final long startTime;
+		private final long completed;
+
+		private Window(long startTime, long completed) {
+			this.startTime = startTime;
+			this.completed = completed;
+		}
+
+	}
+
+	/**
+	 * An immutable snapshot of {@link ThreadHandlerMetrics}. All durations are
+	 * given in nanoseconds. Percentiles are estimates with a relative error of
+	 * about 6%, as they are derived from buckets.
+	 */
+	public static final class Snapshot {
+
+		private final long submittedTasks;
+		private final long completedTasks;
+		private final long failedTasks;
+		private final long rejectedTasks;
+		private final long cancelledTasks;
+		private final long wastedTime;
+		private final int runningTasks;
+		private final int peakRunningTasks;
+		private final double throughput;
+		private final long queueLatencyP50;
+		private final long queueLatencyP99;
+		private final long executionTimeP50;
+		private final long executionTimeP99;
+
+		private Snapshot(long submittedTasks, long completedTasks,
+				long failedTasks, long rejectedTasks, long cancelledTasks,
+				long wastedTime, int runningTasks,
+				int peakRunningTasks, double throughput, long queueLatencyP50,
+				long queueLatencyP99, long executionTimeP50,
+				long executionTimeP99) {
+			this.submittedTasks = submittedTasks;
+			this.completedTasks = completedTasks;
+			this.failedTasks = failedTasks;
+			this.rejectedTasks = rejectedTasks;
+			this.cancelledTasks = cancelledTasks;
+			this.wastedTime = wastedTime;
+			this.runningTasks = runningTasks;
+			this.peakRunningTasks = peakRunningTasks;
+			this.throughput = throughput;
+			this.queueLatencyP50 = queueLatencyP50;
+			this.queueLatencyP99 = queueLatencyP99;
+			this.executionTimeP50 = executionTimeP50;
+			this.executionTimeP99 = executionTimeP99;
+		}
+
+		public long getSubmittedTasks() {
+			return submittedTasks;
+		}
+
+		/**
+		 * @return the number of tasks that finished executing, including the
+		 *         {@linkplain #getFailedTasks() failed} ones
+		 */
+		public long getCompletedTasks() {
+			return completedTasks;
+		}
+
+		public long getFailedTasks() {
+			return failedTasks;
+		}
+
+		/**
+		 * @return the number of tasks that were rejected by the pool, e.g.
+		 *         because it was shut down
+		 */
+		public long getRejectedTasks() {
+			return rejectedTasks;
+		}
+
+		/**
+		 * @return the number of tasks that were cancelled, either explicitly
+		 *         or because their {@linkplain CancellationScope scope} was
+		 *         cancelled
+		 */
+		public long getCancelledTasks() {
+			return cancelledTasks;
+		}
+
+		/**
+		 * @return the total execution time of tasks whose
+		 *         {@linkplain CancellationScope scope} was cancelled while they
+		 *         were running, i.e. the time spent on obsolete work
+		 */
+		public long getWastedTime() {
+			return wastedTime;
+		}
+
+		public int getRunningTasks() {
+			return runningTasks;
+		}
+
+		/**
+		 * @return the highest number of tasks that were executing at the same
+		 *         time, i.e. the peak number of busy threads
+		 */
+		public int getPeakRunningTasks() {
+			return peakRunningTasks;
+		}
+
+		/**
+		 * @return the number of completed tasks per second since the
+		 *         {@linkplain ThreadHandlerMetrics#rollThroughputWindow()
+		 *         current window} started
+		 */
+		public double getThroughput() {
+			return throughput;
+		}
+
+		/**
+		 * @return the median time tasks waited before they were started
+		 */
+		public long getQueueLatencyP50() {
+			return queueLatencyP50;
+		}
+
+		/**
+		 * @return the 99th percentile of the time tasks waited before they
+		 *         were started
+		 */
+		public long getQueueLatencyP99() {
+			return queueLatencyP99;
+		}
+
+		/**
+		 * @return the median execution time of tasks
+		 */
+		public long getExecutionTimeP50() {
+			return executionTimeP50;
+		}
+
+		/**
+		 * @return the 99th percentile of the execution time of tasks
+		 */
+		public long getExecutionTimeP99() {
+			return executionTimeP99;
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot{submittedTasks=" + submittedTasks
+					+ ",completedTasks=" + completedTasks + ",failedTasks="
+					+ failedTasks + ",rejectedTasks=" + rejectedTasks
+					+ ",cancelledTasks=" + cancelledTasks + ",wastedTime="
+					+ wastedTime
+					+ ",runningTasks=" + runningTasks + ",peakRunningTasks="
+					+ peakRunningTasks + ",throughput=" + throughput
+					+ ",queueLatencyP50=" + queueLatencyP50
+					+ ",queueLatencyP99=" + queueLatencyP99
+					+ ",executionTimeP50=" + executionTimeP50
+					+ ",executionTimeP99=" + executionTimeP99 + "}";
+		}
+
+	}
+
+}
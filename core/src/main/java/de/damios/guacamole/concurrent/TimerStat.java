@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.Stopwatch;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Accumulates the time spent on an activity, e.g. on a certain type of task,
+ * across multiple threads. In contrast to sharing a {@link Stopwatch}, any
+ * number of threads can record times concurrently.
+ * <p>
+ * The times are recorded into striped cells, so threads hardly ever contend
+ * with each other; reading the statistics doesn't block recording either.
+ * Times can be recorded directly or via {@linkplain #start() laps}, which
+ * work with try-with-resources:
+ * 
+ * <pre>
+ * try (TimerStat.Lap lap = decodeTime.start()) {
+ * 	decode(file);
+ * }
+ * </pre>
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public final class TimerStat {
+
+	private final LongAdder totalTime = new LongAdder();
+	private final LongAdder count = new LongAdder();
+	private final LongAccumulator maxTime = new LongAccumulator(Math::max,
+			0);
+
+	/**
+	 * Records a time.
+	 * 
+	 * @param nanos
+	 *            the time in nanoseconds
+	 */
+	public void record(long nanos) {
+		Preconditions.checkArgument(nanos >= 0, "the time cannot be negative");
+		totalTime.add(nanos);
+		count.increment();
+		maxTime.accumulate(nanos);
+	}
+
+	/**
+	 * Records a time.
+	 * 
+	 * @param time
+	 *            the time
+	 * @param unit
+	 *            the time unit of {@code time}
+	 */
+	public void record(long time, TimeUnit unit) {
+		record(unit.toNanos(time));
+	}
+
+	/**
+	 * Starts a lap. The time is recorded once the lap is
+	 * {@linkplain Lap#close() closed}.
+	 * 
+	 * @return the lap
+	 */
+	public Lap start() {
+		return new Lap();
+	}
+
+	/**
+	 * Runs the given task and records the time it takes.
+	 * 
+	 * @param r
+	 *            the task
+	 */
+	public void time(Runnable r) {
+		long startTime = System.nanoTime();
+		try {
+			r.run();
+		} finally {
+			record(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * @return the sum of all recorded times in nanoseconds
+	 */
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	public long getTotalTime(TimeUnit unit) {
+		return unit.convert(getTotalTime(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of recorded times
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the longest recorded time in nanoseconds
+	 */
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	/**
+	 * @return the average recorded time in nanoseconds; {@code 0} if no time
+	 *         was recorded yet
+	 */
+	public long getAverageTime() {
+		long n = count.sum();
+		return n == 0 ? 0 : totalTime.sum() / n;
+	}
+
+	/**
+	 * Resets all statistics. Times recorded concurrently may be partially
+	 * lost.
+	 */
+	public void reset() {
+		totalTime.reset();
+		count.reset();
+		maxTime.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "TimerStat{totalTime=" + getTotalTime() + ",count="
+				+ getCount() + ",maxTime=" + getMaxTime() + "}";
+	}
+
+	/**
+	 * A single measurement of a {@link TimerStat}. Is meant to be used by a
+	 * single thread.
+	 */
+	public final class Lap implements AutoCloseable {
+
+		private final long startTime = System.nanoTime();
+		private boolean closed = false;
+
+		private Lap() {
+			// is created via TimerStat#start()
+		}
+
+		/**
+		 * @return the time since the lap was started in nanoseconds
+		 */
+		public long getElapsedTime() {
+			return System.nanoTime() - startTime;
+		}
+
+		/**
+		 * Records the time of this lap. Subsequent calls have no effect.
+		 */
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				record(getElapsedTime());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A {@link ThreadFactory} creating virtual threads. As virtual threads are only
+ * available on Java 21+, they are accessed via reflection so this class can be
+ * compiled for older targets. Use {@link #create(String)} to check whether
+ * virtual threads are supported by the current runtime.
+ * <p>
+ * Additionally keeps track of the number of live threads, as there is no pool
+ * that could be queried instead.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+final class VirtualThreadFactory implements ThreadFactory {
+
+	private final ThreadFactory delegate;
+	private final AtomicInteger liveThreads = new AtomicInteger();
+
+	private VirtualThreadFactory(ThreadFactory delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @param name
+	 *            the name prefix of the created threads
+	 * @return a factory for virtual threads; {@code null} if the runtime does
+	 *         not support them
+	 */
+	static @Nullable VirtualThreadFactory create(String name) {
+		try {
+			// Thread.ofVirtual().name(name + " ", 0).factory()
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class)
+					.invoke(builder, name + " ", 0L);
+			return new VirtualThreadFactory((ThreadFactory) builderClass
+					.getMethod("factory").invoke(builder));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Java < 21 or virtual threads are a disabled preview feature
+			return null;
+		}
+	}
+
+	/**
+	 * @return an executor starting a new virtual thread for each task;
+	 *         {@code null} if the runtime does not support this
+	 */
+	@Nullable
+	ExecutorService newThreadPerTaskExecutor() {
+		try {
+			// Executors.newThreadPerTaskExecutor(this)
+			Method m = Class.forName("java.util.concurrent.Executors")
+					.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) m.invoke(null, this);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Thread newThread(Runnable r) {
+		return delegate.newThread(() -> {
+			liveThreads.incrementAndGet();
+			try {
+				r.run();
+			} finally {
+				liveThreads.decrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * @return the number of threads created by this factory that are still
+	 *         running
+	 */
+	int getLiveThreadCount() {
+		return liveThreads.get();
+	}
+
+}
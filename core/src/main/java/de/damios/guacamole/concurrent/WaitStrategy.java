@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * Determines how a thread waits for a {@link RingBuffer} to become non-empty
+ * or non-full. The strategies trade latency for CPU usage.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public enum WaitStrategy {
+	/**
+	 * Spins in a loop. Has the lowest latency, but keeps a core fully busy
+	 * while waiting. Should only be used if there is a core to spare for each
+	 * waiting thread.
+	 */
+	BUSY_SPIN {
+		@Override
+		void idle() {
+			// spin
+		}
+	},
+	/**
+	 * {@linkplain Thread#yield() Yields} to other threads. Has a low latency
+	 * while letting other threads run, but still uses up CPU time if there is
+	 * nothing else to do.
+	 */
+	YIELD {
+		@Override
+		void idle() {
+			Thread.yield();
+		}
+	},
+	/**
+	 * {@linkplain LockSupport#parkNanos(long) Parks} the thread for 50
+	 * microseconds at a time. Uses hardly any CPU, but adds latency; is suited
+	 * for consumers that are not latency-critical.
+	 */
+	PARK {
+		@Override
+		void idle() {
+			LockSupport.parkNanos(PARK_TIME);
+		}
+	};
+
+	private static final long PARK_TIME = TimeUnit.MICROSECONDS.toNanos(50);
+
+	/**
+	 * Is called repeatedly while waiting.
+	 */
+	abstract void idle();
+
+}
@@ -0,0 +1,124 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.CoalescingExecutor;
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.ThreadHandler;
+
+public class CoalescingExecutorTest {
+
+	@RegisterExtension
+	final ThreadHandlerExtension handlers = new ThreadHandlerExtension();
+
+	@Test
+	public void testCoalescing() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(2));
+		CoalescingExecutor<String> executor = new CoalescingExecutor<>(
+				handler);
+		AtomicInteger runs = new AtomicInteger();
+		AtomicInteger concurrentRuns = new AtomicInteger();
+		AtomicInteger maxConcurrentRuns = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		assertTrue(executor.execute("shader", () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			runs.incrementAndGet();
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// While the first task is running, further submissions are merged
+		// into a single rerun
+		AtomicReference<String> lastRun = new AtomicReference<>();
+		for (int i = 0; i < 50; i++) {
+			String value = String.valueOf(i);
+			boolean scheduled = executor.execute("shader", () -> {
+				int running = concurrentRuns.incrementAndGet();
+				maxConcurrentRuns.accumulateAndGet(running, Math::max);
+				lastRun.set(value);
+				runs.incrementAndGet();
+				concurrentRuns.decrementAndGet();
+			});
+			assertEquals(i == 0, scheduled);
+		}
+		assertTrue(executor.isPending("shader"));
+		release.countDown();
+
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		assertEquals(2, runs.get());
+		assertEquals("49", lastRun.get());
+		assertEquals(1, maxConcurrentRuns.get());
+		assertFalse(executor.isPending("shader"));
+		assertEquals(0, executor.getPendingCount());
+	}
+
+	@Test
+	public void testDebounce() throws Exception {
+		CoalescingExecutor<Integer> executor = new CoalescingExecutor<>(
+				ThreadHandler.instance(), 50, TimeUnit.MILLISECONDS);
+		AtomicInteger runs = new AtomicInteger();
+
+		// The burst takes longer than the window, but every submission
+		// restarts it
+		for (int i = 0; i < 20; i++) {
+			executor.execute(1, runs::incrementAndGet);
+			Thread.sleep(5);
+		}
+		executor.execute(2, runs::incrementAndGet);
+
+		for (int i = 0; i < 1000 && executor.getPendingCount() > 0; i++) {
+			Thread.sleep(5);
+		}
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	public void testCancelledDispatch() throws Exception {
+		ThreadHandler handler = handlers.create(
+				PoolConfig.prioritized(1, 500, TimeUnit.MILLISECONDS));
+		CoalescingExecutor<String> executor = new CoalescingExecutor<>(
+				handler);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger runs = new AtomicInteger();
+
+		// The only thread is blocked, so the coalesced task stays queued
+		handler.executeRunnable(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(executor.execute("shader", runs::incrementAndGet));
+
+		// Shutting down abandons, i.e. cancels, the dispatched task
+		try {
+			assertEquals(1, handler.shutdown(10, TimeUnit.MILLISECONDS).size());
+		} finally {
+			release.countDown();
+		}
+		assertFalse(executor.isPending("shader"));
+		assertEquals(0, executor.getPendingCount());
+		assertEquals(0, runs.get());
+	}
+
+}
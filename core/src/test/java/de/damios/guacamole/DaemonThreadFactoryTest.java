@@ -0,0 +1,90 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.CpuTimeSampler;
+import de.damios.guacamole.concurrent.DaemonThreadFactory;
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.ThreadHandler;
+
+public class DaemonThreadFactoryTest {
+
+	@RegisterExtension
+	final ThreadHandlerExtension handlers = new ThreadHandlerExtension();
+
+	@Test
+	public void testOptions() throws Exception {
+		UncaughtExceptionHandler handler = (t, e) -> {
+		};
+		DaemonThreadFactory factory = new DaemonThreadFactory("test")
+				.setPriority(Thread.MIN_PRIORITY).setStackSize(1 << 20)
+				.setUncaughtExceptionHandler(handler);
+
+		AtomicBoolean live = new AtomicBoolean();
+		Thread t = factory.newThread(() -> {
+			live.set(factory.getLiveThreads().contains(Thread.currentThread()));
+		});
+		assertTrue(t.isDaemon());
+		assertEquals("test 0", t.getName());
+		assertEquals(Thread.MIN_PRIORITY, t.getPriority());
+		assertTrue(handler == t.getUncaughtExceptionHandler());
+		assertTrue(factory.getThreadGroup() == t.getThreadGroup());
+		assertTrue(factory.getLiveThreads().isEmpty());
+
+		t.start();
+		t.join();
+		assertTrue(live.get());
+		assertTrue(factory.getLiveThreads().isEmpty());
+		assertEquals(1, factory.getCreatedThreadCount());
+		assertEquals(1, factory.getTerminatedThreadCount());
+	}
+
+	@Test
+	public void testUniqueNames() throws Exception {
+		DaemonThreadFactory factory = new DaemonThreadFactory("test");
+		Set<String> names = ConcurrentHashMap.newKeySet();
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(4));
+
+		handler.parallelFor(0, 10_000, 1,
+				i -> names.add(factory.newThread(() -> {
+				}).getName()));
+
+		assertEquals(10_000, names.size());
+		assertEquals(10_000, factory.getCreatedThreadCount());
+		assertEquals(0, factory.getTerminatedThreadCount());
+		// Threads that were never started aren't retained
+		assertTrue(factory.getLiveThreads().isEmpty());
+	}
+
+	@Test
+	public void testCpuTimeSampler() throws Exception {
+		DaemonThreadFactory factory = new DaemonThreadFactory("test");
+		ThreadHandler handler = handlers.create(
+				PoolConfig.workStealing(2).withThreadFactory(factory));
+		CpuTimeSampler sampler = new CpuTimeSampler(factory);
+
+		handler.executeRunnable(() -> {
+			long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+			while (System.nanoTime() < end) {
+				// busy wait
+			}
+		}).get(5, TimeUnit.SECONDS);
+
+		assertTrue(factory.getLiveThreads().size() >= 1);
+		if (CpuTimeSampler.isSupported()) {
+			assertTrue(sampler.sample() > 0);
+			assertTrue(sampler.getTotalCpuTime() > 0);
+		}
+	}
+
+}
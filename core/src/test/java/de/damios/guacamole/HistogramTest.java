@@ -0,0 +1,84 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+	@Test
+	public void testPercentiles() {
+		Histogram histogram = new Histogram(6);
+		for (int i = 1; i <= 1_000_000; i++) {
+			histogram.record(i * 1000L);
+		}
+
+		assertEquals(1_000_000, histogram.getTotalCount());
+		assertEquals(1000, histogram.getMin());
+		assertEquals(1_000_000_000, histogram.getMax());
+		assertEquals(500_000_500, histogram.getMean(), 1);
+		assertWithinError(500_000_000, histogram.getValueAtPercentile(50),
+				1 / 64D);
+		assertWithinError(990_000_000, histogram.getValueAtPercentile(99),
+				1 / 64D);
+		assertWithinError(999_000_000, histogram.getValueAtPercentile(99.9),
+				1 / 64D);
+		assertEquals(1_000_000_000, histogram.getValueAtPercentile(100));
+
+		// Small values are exact
+		Histogram small = new Histogram(4);
+		small.record(0);
+		small.record(7, 2);
+		small.record(Long.MAX_VALUE);
+		assertEquals(0, small.getValueAtPercentile(10));
+		assertEquals(7, small.getValueAtPercentile(50));
+		assertEquals(Long.MAX_VALUE, small.getValueAtPercentile(100));
+	}
+
+	private static void assertWithinError(long expected, long actual,
+			double relativeError) {
+		assertTrue(Math.abs(expected - actual) <= expected * relativeError,
+				"expected " + expected + " but was " + actual);
+	}
+
+	@Test
+	public void testMerge() {
+		Random random = new Random(42);
+		Histogram a = new Histogram();
+		Histogram b = new Histogram();
+		Histogram all = new Histogram();
+		for (int i = 0; i < 10_000; i++) {
+			long value = (long) (random.nextGaussian() * 1e6 + 16e6);
+			(i % 2 == 0 ? a : b).record(value);
+			all.record(value);
+		}
+
+		a.add(b);
+		Histogram.Snapshot merged = a.snapshot();
+		Histogram.Snapshot expected = all.snapshot();
+		assertEquals(expected.getCount(), merged.getCount());
+		assertEquals(expected.getMin(), merged.getMin());
+		assertEquals(expected.getMax(), merged.getMax());
+		assertEquals(expected.getP99(), merged.getP99());
+		assertEquals(expected.getP999(), merged.getP999());
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			a.add(new Histogram(3));
+		});
+		a.reset();
+		assertEquals(0, a.getTotalCount());
+		assertEquals(0, a.getValueAtPercentile(50));
+	}
+
+	@Test
+	public void testStopwatch() {
+		Histogram histogram = new Histogram();
+		Stopwatch.createStarted().stop().recordTo(histogram);
+		assertEquals(1, histogram.getTotalCount());
+	}
+
+}
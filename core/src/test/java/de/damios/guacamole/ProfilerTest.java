@@ -0,0 +1,79 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.damios.guacamole.Profiler.Statistic;
+
+public class ProfilerTest {
+
+	@Test
+	public void testSections() throws Exception {
+		Profiler profiler = new Profiler(8, 4);
+
+		for (int i = 0; i < 6; i++) {
+			profiler.beginFrame();
+			profiler.push("update");
+			profiler.push("physics");
+			Thread.sleep(2);
+			profiler.pop();
+			profiler.pop();
+			if (i % 2 == 0) {
+				// Entered twice
+				profiler.push("render");
+				profiler.pop();
+				profiler.push("render");
+				profiler.pop();
+			}
+			profiler.endFrame();
+		}
+
+		assertEquals(4, profiler.getRecordedFrameCount());
+		long physics = profiler.getStatistic(Statistic.MIN, "update",
+				"physics");
+		assertTrue(physics >= TimeUnit.MILLISECONDS.toNanos(2));
+		assertTrue(profiler.getStatistic(Statistic.MIN, "update") >= physics);
+		assertTrue(profiler.getStatistic(Statistic.AVG) >= physics);
+		assertTrue(profiler.getStatistic(Statistic.MAX, "update",
+				"physics") <= profiler.getStatistic(Statistic.MAX));
+		assertTrue(profiler.getStatistic(Statistic.P99, "render") >= 0);
+		assertEquals(-1, profiler.getStatistic(Statistic.AVG, "physics"));
+
+		String report = profiler.getReport();
+		assertTrue(report.startsWith("section [ms]"));
+		assertTrue(report.contains("\nframe "));
+		assertTrue(report.contains("\n  update "));
+		assertTrue(report.contains("\n    physics "));
+		assertTrue(report.contains("\n  render "));
+
+		profiler.reset();
+		assertEquals(-1, profiler.getStatistic(Statistic.AVG));
+	}
+
+	@Test
+	public void testMisuse() {
+		Profiler profiler = new Profiler(2, 10);
+
+		assertThrows(IllegalStateException.class, () -> {
+			profiler.push("a");
+		});
+		profiler.beginFrame();
+		assertThrows(IllegalStateException.class, () -> {
+			profiler.pop();
+		});
+		profiler.push("a");
+		assertThrows(IllegalStateException.class, () -> {
+			profiler.endFrame();
+		});
+		// Only two sections
+		assertThrows(IllegalStateException.class, () -> {
+			profiler.push("b");
+		});
+	}
+
+}
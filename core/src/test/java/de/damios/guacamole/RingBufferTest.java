@@ -0,0 +1,122 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import de.damios.guacamole.concurrent.RingBuffer;
+import de.damios.guacamole.concurrent.ThreadHandler;
+import de.damios.guacamole.concurrent.WaitStrategy;
+
+public class RingBufferTest {
+
+	@Test
+	public void testSingleThreaded() {
+		testSingleThreaded(RingBuffer.singleProducer(3, WaitStrategy.YIELD));
+		testSingleThreaded(RingBuffer.multiProducer(3, WaitStrategy.YIELD));
+	}
+
+	private void testSingleThreaded(RingBuffer<Integer> buffer) {
+		assertEquals(4, buffer.capacity());
+		assertTrue(buffer.isEmpty());
+		assertNull(buffer.poll());
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+		assertFalse(buffer.offer(4));
+		assertEquals(4, buffer.size());
+		assertEquals(0, buffer.poll());
+		assertTrue(buffer.offer(4));
+
+		List<Integer> drained = new ArrayList<>();
+		assertEquals(2, buffer.drainTo(drained::add, 2));
+		assertEquals(2, buffer.drainTo(drained::add, 10));
+		assertEquals(0, buffer.drainTo(drained::add, 10));
+		assertEquals(4, drained.size());
+		for (int i = 0; i < 4; i++) {
+			assertEquals(i + 1, drained.get(i));
+		}
+	}
+
+	@Test
+	public void testSingleProducer() throws Exception {
+		RingBuffer<Integer> buffer = RingBuffer.singleProducer(64,
+				WaitStrategy.YIELD);
+		int count = 200_000;
+
+		Future<Void> producer = ThreadHandler.instance().executeRunnable(() -> {
+			try {
+				for (int i = 0; i < count; i++) {
+					buffer.put(i);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, buffer.take());
+		}
+		producer.get(5, TimeUnit.SECONDS);
+		assertTrue(buffer.isEmpty());
+	}
+
+	@Test
+	public void testMultiProducer() throws Exception {
+		RingBuffer<Integer> buffer = RingBuffer.multiProducer(64,
+				WaitStrategy.PARK);
+		int producers = 4, count = 50_000;
+		AtomicIntegerArray received = new AtomicIntegerArray(
+				producers * count);
+		AtomicLong total = new AtomicLong();
+
+		Future<Void> consumer = buffer.startConsumer(ThreadHandler.instance(),
+				i -> {
+					received.incrementAndGet(i);
+					total.incrementAndGet();
+				}, 32);
+
+		List<Future<Void>> futures = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int offset = p * count;
+			futures.add(ThreadHandler.instance().executeRunnable(() -> {
+				try {
+					for (int i = 0; i < count; i++) {
+						buffer.put(offset + i);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+		}
+		for (Future<Void> f : futures) {
+			f.get(10, TimeUnit.SECONDS);
+		}
+
+		for (int i = 0; i < 1000 && total.get() < producers * count; i++) {
+			Thread.sleep(5);
+		}
+		// The consumer also stops without being interrupted
+		consumer.cancel(false);
+		Thread.sleep(20);
+		assertTrue(buffer.offer(-1));
+		Thread.sleep(20);
+		assertEquals(1, buffer.size());
+
+		for (int i = 0; i < received.length(); i++) {
+			assertEquals(1, received.get(i));
+		}
+	}
+
+}
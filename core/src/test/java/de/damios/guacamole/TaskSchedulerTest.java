@@ -0,0 +1,174 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.TaskScheduler;
+import de.damios.guacamole.concurrent.TaskScheduler.ScheduledTask;
+import de.damios.guacamole.concurrent.ThreadHandler;
+
+public class TaskSchedulerTest {
+
+	@RegisterExtension
+	final ThreadHandlerExtension handlers = new ThreadHandlerExtension();
+
+	/**
+	 * Creates a scheduler with a tick duration of 1 ms and its own handler;
+	 * both are shut down after the test.
+	 */
+	private TaskScheduler createScheduler(int wheelSize) {
+		TaskScheduler scheduler = new TaskScheduler("test",
+				handlers.create(PoolConfig.workStealing(2)), 1,
+				TimeUnit.MILLISECONDS, wheelSize);
+		return handlers.add(scheduler);
+	}
+
+	@Test
+	public void testSchedule() throws Exception {
+		TaskScheduler scheduler = createScheduler(8);
+		CountDownLatch latch = new CountDownLatch(1);
+
+		long start = System.nanoTime();
+		// The delay spans multiple rounds of the wheel
+		scheduler.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - start >= 30_000_000);
+		assertEquals(0, scheduler.getPendingTaskCount());
+
+		// The idle scheduler is woken up by new tasks
+		Thread.sleep(20);
+		CountDownLatch second = new CountDownLatch(1);
+		start = System.nanoTime();
+		scheduler.schedule(second::countDown, 5, TimeUnit.MILLISECONDS);
+		assertTrue(second.await(5, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - start >= 5_000_000);
+	}
+
+	@Test
+	public void testManyTimers() throws Exception {
+		TaskScheduler scheduler = createScheduler(64);
+		CountDownLatch latch = new CountDownLatch(5000);
+
+		for (int i = 0; i < 5000; i++) {
+			scheduler.schedule(latch::countDown, i % 100,
+					TimeUnit.MILLISECONDS);
+		}
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		TaskScheduler scheduler = TaskScheduler.instance();
+		AtomicInteger counter = new AtomicInteger();
+
+		ScheduledTask task = scheduler.schedule(counter::incrementAndGet, 50,
+				TimeUnit.MILLISECONDS);
+		assertTrue(task.cancel());
+		assertFalse(task.cancel());
+		assertTrue(task.isCancelled());
+
+		Thread.sleep(100);
+		assertEquals(0, counter.get());
+	}
+
+	@Test
+	public void testPeriodic() throws Exception {
+		TaskScheduler scheduler = createScheduler(16);
+		CountDownLatch rateLatch = new CountDownLatch(5);
+		CountDownLatch delayLatch = new CountDownLatch(5);
+
+		ScheduledTask rate = scheduler.scheduleAtFixedRate(
+				rateLatch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+		ScheduledTask delay = scheduler.scheduleWithFixedDelay(
+				delayLatch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+		assertTrue(rate.isPeriodic());
+
+		assertTrue(rateLatch.await(5, TimeUnit.SECONDS));
+		assertTrue(delayLatch.await(5, TimeUnit.SECONDS));
+		assertEquals(2, scheduler.getPendingTaskCount());
+
+		assertTrue(rate.cancel());
+		assertTrue(delay.cancel());
+		assertEquals(0, scheduler.getPendingTaskCount());
+	}
+
+	@Test
+	public void testHugeDelays() throws Exception {
+		TaskScheduler scheduler = createScheduler(8);
+		AtomicInteger runs = new AtomicInteger();
+
+		// The deadlines don't overflow
+		TaskScheduler.ScheduledTask task = scheduler
+				.schedule(runs::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS);
+		TaskScheduler.ScheduledTask rate = scheduler.scheduleAtFixedRate(
+				runs::incrementAndGet, 0, Long.MAX_VALUE, TimeUnit.DAYS);
+		TaskScheduler.ScheduledTask delay = scheduler.scheduleWithFixedDelay(
+				runs::incrementAndGet, 0, Long.MAX_VALUE, TimeUnit.DAYS);
+		Thread.sleep(50);
+
+		// Only the first executions of the periodic tasks took place
+		assertEquals(2, runs.get());
+		assertEquals(3, scheduler.getPendingTaskCount());
+		assertTrue(task.cancel());
+		assertTrue(rate.cancel());
+		assertTrue(delay.cancel());
+	}
+
+	@Test
+	public void testShutdown() throws Exception {
+		TaskScheduler scheduler = new TaskScheduler("test",
+				ThreadHandler.instance());
+		Runnable task = () -> {
+		};
+		scheduler.schedule(task, 1, TimeUnit.HOURS);
+
+		List<Runnable> discarded = scheduler.shutdown();
+		assertEquals(1, discarded.size());
+		assertTrue(discarded.get(0) == task);
+
+		assertThrows(RejectedExecutionException.class, () -> {
+			scheduler.schedule(task, 1, TimeUnit.SECONDS);
+		});
+		assertEquals(0, scheduler.getPendingTaskCount());
+	}
+
+	@Test
+	public void testShutdownWhileRunning() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(1));
+		TaskScheduler scheduler = new TaskScheduler("test", handler);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ScheduledTask task = scheduler.scheduleWithFixedDelay(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, 0, 1, TimeUnit.MILLISECONDS);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// The running task can't be rescheduled anymore, so it is cancelled
+		assertTrue(scheduler.shutdown().isEmpty());
+		release.countDown();
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		assertTrue(task.isCancelled());
+		assertEquals(0, scheduler.getPendingTaskCount());
+	}
+
+}
@@ -0,0 +1,55 @@
+package de.damios.guacamole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.TaskScheduler;
+import de.damios.guacamole.concurrent.ThreadHandler;
+
+/**
+ * Creates thread handlers and schedulers for a test and shuts them down
+ * afterwards, so their threads don't pile up over the test run. Is used as
+ * {@link RegisterExtension} field.
+ */
+public class ThreadHandlerExtension implements AfterEachCallback {
+
+	private final List<ThreadHandler> handlers = new ArrayList<>();
+	private final List<TaskScheduler> schedulers = new ArrayList<>();
+
+	/**
+	 * Creates a handler that is shut down after the test.
+	 */
+	public ThreadHandler create(PoolConfig config) {
+		ThreadHandler handler = ThreadHandler.create("test", config);
+		handlers.add(handler);
+		return handler;
+	}
+
+	/**
+	 * Registers a scheduler, so it is shut down after the test; before the
+	 * handlers are.
+	 */
+	public TaskScheduler add(TaskScheduler scheduler) {
+		schedulers.add(scheduler);
+		return scheduler;
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) throws Exception {
+		for (TaskScheduler scheduler : schedulers) {
+			scheduler.shutdown();
+		}
+		for (ThreadHandler handler : handlers) {
+			handler.shutdown(5, TimeUnit.SECONDS);
+		}
+		schedulers.clear();
+		handlers.clear();
+	}
+
+}
@@ -0,0 +1,434 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.CancellationScope;
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.TaskPriority;
+import de.damios.guacamole.concurrent.ThreadHandler;
+import de.damios.guacamole.concurrent.ThreadHandlerMetrics;
+
+public class ThreadHandlerTest {
+
+	@RegisterExtension
+	final ThreadHandlerExtension handlers = new ThreadHandlerExtension();
+
+	@Test
+	public void testWorkStealingPool() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(2));
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(100);
+
+		for (int i = 0; i < 100; i++) {
+			handler.executeRunnable(() -> {
+				counter.incrementAndGet();
+				latch.countDown();
+			});
+		}
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(100, counter.get());
+		assertTrue(handler.getPoolSize() <= 2);
+	}
+
+	@Test
+	public void testVirtualThreads() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.virtual());
+		String version = System.getProperty("java.specification.version");
+		boolean supported = !version.startsWith("1.")
+				&& Integer.parseInt(version) >= 21;
+		assertEquals(supported, handler.isUsingVirtualThreads());
+
+		// Blocking tasks
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1000);
+		for (int i = 0; i < 1000; i++) {
+			handler.executeRunnable(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				latch.countDown();
+			});
+		}
+		start.countDown();
+
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testPriorities() throws Exception {
+		ThreadHandler handler = handlers.create(
+				PoolConfig.prioritized(1, 1, TimeUnit.HOURS));
+		List<TaskPriority> order = testPriorities(handler);
+
+		assertEquals(TaskPriority.HIGH, order.get(0));
+		assertEquals(TaskPriority.NORMAL, order.get(1));
+		assertEquals(TaskPriority.LOW, order.get(2));
+	}
+
+	@Test
+	public void testPriorityAging() throws Exception {
+		// Every nanosecond of waiting counts as one priority level
+		ThreadHandler handler = handlers.create(
+				PoolConfig.prioritized(1, 1, TimeUnit.NANOSECONDS));
+		List<TaskPriority> order = testPriorities(handler);
+
+		assertEquals(TaskPriority.LOW, order.get(0));
+		assertEquals(TaskPriority.NORMAL, order.get(1));
+		assertEquals(TaskPriority.HIGH, order.get(2));
+	}
+
+	private List<TaskPriority> testPriorities(ThreadHandler handler)
+			throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		handler.executeRunnable(() -> {
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		List<TaskPriority> order = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+		for (TaskPriority p : TaskPriority.values()) {
+			handler.executeRunnable(() -> {
+				order.add(p);
+				latch.countDown();
+			}, p);
+			Thread.sleep(5);
+		}
+		assertEquals(1, handler.getQueuedTaskCount(TaskPriority.LOW));
+		assertEquals(1, handler.getQueuedTaskCount(TaskPriority.HIGH));
+
+		blocker.countDown();
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(0, handler.getQueuedTaskCount(TaskPriority.LOW));
+		return order;
+	}
+
+	@Test
+	public void testCompletableFutures() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(2));
+
+		assertEquals("6", handler.supplyAsync(() -> 3)
+				.thenApplyAsync(i -> i * 2, handler)
+				.thenApply(String::valueOf).get(5, TimeUnit.SECONDS));
+
+		AtomicInteger counter = new AtomicInteger();
+		handler.runAsync(counter::incrementAndGet)
+				.thenRunAsync(counter::incrementAndGet, handler)
+				.get(5, TimeUnit.SECONDS);
+		assertEquals(2, counter.get());
+	}
+
+	@Test
+	public void testExceptionHandler() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(1));
+		AtomicReference<Throwable> exception = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		handler.setExceptionHandler((r, t) -> {
+			exception.set(t);
+			latch.countDown();
+		});
+
+		Future<Void> f = handler.executeRunnable(() -> {
+			throw new IllegalStateException("abc");
+		});
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals("abc", exception.get().getMessage());
+		assertTrue(f.isDone());
+		handler.setExceptionHandler(null);
+	}
+
+	@Test
+	public void testExceptionHandlerTag() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.cached());
+		AtomicReference<String> tag = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		handler.setTaskExceptionHandler((t, r, e) -> {
+			tag.set(t);
+			latch.countDown();
+		});
+
+		handler.executeRunnable(() -> {
+		}, TaskPriority.NORMAL, "success");
+		handler.executeRunnable(() -> {
+			throw new IllegalStateException();
+		}, TaskPriority.NORMAL, "failure");
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals("failure", tag.get());
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(2));
+		ThreadHandlerMetrics metrics = new ThreadHandlerMetrics();
+		handler.setMetrics(metrics);
+
+		for (int i = 0; i < 9; i++) {
+			handler.executeRunnable(() -> {
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		handler.executeRunnable(() -> {
+			throw new IllegalStateException();
+		});
+
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		ThreadHandlerMetrics.Snapshot snapshot = metrics.snapshot();
+
+		assertEquals(10, snapshot.getSubmittedTasks());
+		assertEquals(10, snapshot.getCompletedTasks());
+		assertEquals(1, snapshot.getFailedTasks());
+		assertEquals(0, snapshot.getRejectedTasks());
+		assertEquals(0, snapshot.getCancelledTasks());
+		assertTrue(snapshot.getPeakRunningTasks() >= 1);
+		assertTrue(snapshot.getPeakRunningTasks() <= 2);
+		assertTrue(snapshot.getExecutionTimeP99() >= 1_000_000);
+
+		// A task cancelled while running is counted as cancelled by the time
+		// the handler is quiescent
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Void> future = handler.executeRunnable(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(future.cancel(false));
+		assertFalse(handler.awaitQuiescence(10, TimeUnit.MILLISECONDS));
+		release.countDown();
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		snapshot = metrics.snapshot();
+		assertEquals(11, snapshot.getSubmittedTasks());
+		assertEquals(11, snapshot.getCompletedTasks());
+		assertEquals(1, snapshot.getCancelledTasks());
+
+		// Snapshots don't affect the throughput window
+		assertTrue(metrics.snapshot().getThroughput() > 0);
+		metrics.rollThroughputWindow();
+		assertEquals(0, metrics.snapshot().getThroughput(), 0);
+	}
+
+	@Test
+	public void testCancellationScope() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(1));
+		ThreadHandlerMetrics metrics = new ThreadHandlerMetrics();
+		handler.setMetrics(metrics);
+		CancellationScope scope = handler.newScope();
+		CancellationScope child = scope.newChildScope();
+		AtomicInteger counter = new AtomicInteger();
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger observedCancellation = new AtomicInteger();
+		scope.executeRunnable(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (CancellationScope.current().isCancelled())
+				observedCancellation.incrementAndGet();
+		});
+		for (int i = 0; i < 10; i++) {
+			scope.executeRunnable(counter::incrementAndGet);
+			child.executeRunnable(counter::incrementAndGet);
+		}
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertEquals(11, scope.getPendingTaskCount());
+
+		scope.cancelAll();
+		assertTrue(child.isCancelled());
+		assertThrows(CancellationException.class, child::throwIfCancelled);
+		// The cancelled task is still running
+		assertFalse(handler.awaitQuiescence(50, TimeUnit.MILLISECONDS));
+		release.countDown();
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		assertEquals(0, counter.get());
+		assertEquals(0, scope.getPendingTaskCount());
+		assertTrue(CancellationScope.current() == null);
+
+		ThreadHandlerMetrics.Snapshot snapshot = metrics.snapshot();
+		assertEquals(1, observedCancellation.get());
+		assertEquals(21, snapshot.getCancelledTasks());
+		assertTrue(snapshot.getWastedTime() > 0);
+
+		// Deadlines
+		CancellationScope timed = handler.newScope(0, TimeUnit.SECONDS);
+		assertTrue(timed.isCancelled());
+		assertTrue(timed.getRemainingTime(TimeUnit.NANOSECONDS) <= 0);
+		timed.executeRunnable(counter::incrementAndGet);
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+		assertEquals(0, counter.get());
+
+		CancellationScope parent = handler.newScope(1, TimeUnit.MINUTES);
+		assertTrue(parent.newChildScope(1, TimeUnit.HOURS)
+				.getRemainingTime(TimeUnit.SECONDS) <= 60);
+		assertEquals(Long.MAX_VALUE,
+				handler.newScope().getRemainingTime(TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testShutdown() throws Exception {
+		testShutdown(PoolConfig.prioritized(1, 1, TimeUnit.SECONDS));
+		testShutdown(PoolConfig.workStealing(1));
+	}
+
+	private void testShutdown(PoolConfig config) throws Exception {
+		ThreadHandler handler = handlers.create(config);
+		AtomicInteger cancelled = new AtomicInteger();
+		handler.setExceptionHandler((r, t) -> cancelled.incrementAndGet());
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		handler.executeRunnable(() -> {
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Runnable queued = () -> {
+		};
+		handler.executeRunnable(queued);
+		handler.executeRunnable(queued);
+
+		assertTrue(!handler.awaitQuiescence(10, TimeUnit.MILLISECONDS));
+		assertEquals(3, handler.getPendingTaskCount());
+
+		List<Runnable> abandoned = handler.shutdown(10,
+				TimeUnit.MILLISECONDS);
+		assertTrue(handler.isShutdown());
+		assertEquals(2, abandoned.size());
+		assertTrue(abandoned.get(0) == queued);
+		assertEquals(2, cancelled.get());
+		assertTrue(handler.awaitQuiescence(5, TimeUnit.SECONDS));
+
+		assertThrows(RejectedExecutionException.class, () -> {
+			handler.executeRunnable(queued);
+		});
+
+		// Tasks of a cancelled scope aren't submitted at all
+		CancellationScope scope = handler.newScope();
+		scope.cancelAll();
+		assertTrue(scope.executeRunnable(queued).isCancelled());
+		assertEquals(0, handler.getPendingTaskCount());
+		assertTrue(handler.awaitQuiescence(0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testParallelFor() throws Exception {
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(4));
+		AtomicIntegerArray visits = new AtomicIntegerArray(50_000);
+
+		handler.parallelFor(0, 50_000, visits::incrementAndGet);
+		handler.parallelFor(IntRange.createInclusive(100, 199),
+				visits::incrementAndGet);
+		handler.parallelFor(10, 10, visits::incrementAndGet);
+		for (int i = 0; i < visits.length(); i++) {
+			assertEquals(i >= 100 && i < 200 ? 2 : 1, visits.get(i));
+		}
+
+		// Exceptions are rethrown
+		assertThrows(IllegalStateException.class, () -> {
+			handler.parallelFor(0, 100, 1, i -> {
+				if (i == 50)
+					throw new IllegalStateException();
+			});
+		});
+		// Checked exceptions are wrapped
+		CompletionException e = assertThrows(CompletionException.class, () -> {
+			handler.parallelFor(0, 100, 1, i -> {
+				if (i == 50)
+					ThreadHandlerTest.<RuntimeException>sneakyThrow(
+							new IOException());
+			});
+		});
+		assertTrue(e.getCause() instanceof IOException);
+
+		// The edges of the int range
+		List<Integer> edges = new CopyOnWriteArrayList<>();
+		handler.parallelFor(IntRange.createExclusive(Integer.MAX_VALUE - 1,
+				Integer.MAX_VALUE), edges::add);
+		handler.parallelFor(IntRange.createExclusive(Integer.MIN_VALUE,
+				Integer.MIN_VALUE + 2), edges::add);
+		assertEquals(1, edges.size());
+		assertEquals(Integer.MIN_VALUE + 1, (int) edges.get(0));
+		// Ranges of more than Integer.MAX_VALUE indices; the exception skips
+		// the remaining ones
+		AtomicInteger calls = new AtomicInteger();
+		assertThrows(IllegalStateException.class, () -> {
+			handler.parallelFor(Integer.MIN_VALUE, Integer.MAX_VALUE, 1, i -> {
+				calls.incrementAndGet();
+				throw new IllegalStateException();
+			});
+		});
+		assertTrue(calls.get() >= 1);
+		assertTrue(calls.get() <= 4);
+		assertThrows(IllegalArgumentException.class, () -> {
+			handler.parallelFor(IntRange.createInclusive(0, Integer.MAX_VALUE),
+					i -> {
+					});
+		});
+
+		// Loops can be started from within a task of the pool
+		ThreadHandler single = handlers.create(PoolConfig.workStealing(1));
+		AtomicInteger counter = new AtomicInteger();
+		single.supplyAsync(() -> {
+			single.parallelFor(0, 1000, 10, i -> counter.incrementAndGet());
+			return null;
+		}).get(5, TimeUnit.SECONDS);
+		assertEquals(1000, counter.get());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Throwable> void sneakyThrow(Throwable t)
+			throws T {
+		throw (T) t;
+	}
+
+	@Test
+	public void testPoolConfig() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			PoolConfig.workStealing(0);
+		});
+		assertEquals(PoolConfig.Mode.CACHED, PoolConfig.cached().getMode());
+		assertEquals(Runtime.getRuntime().availableProcessors(),
+				PoolConfig.workStealing().getParallelism());
+	}
+
+}
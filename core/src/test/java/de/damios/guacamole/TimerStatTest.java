@@ -0,0 +1,62 @@
+package de.damios.guacamole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import de.damios.guacamole.concurrent.PoolConfig;
+import de.damios.guacamole.concurrent.ThreadHandler;
+import de.damios.guacamole.concurrent.TimerStat;
+
+public class TimerStatTest {
+
+	@RegisterExtension
+	final ThreadHandlerExtension handlers = new ThreadHandlerExtension();
+
+	@Test
+	public void testConcurrentRecording() {
+		TimerStat stat = new TimerStat();
+		ThreadHandler handler = handlers.create(PoolConfig.workStealing(4));
+
+		handler.parallelFor(0, 100_000, i -> stat.record(i));
+
+		assertEquals(100_000, stat.getCount());
+		assertEquals(99_999L * 100_000 / 2, stat.getTotalTime());
+		assertEquals(99_999, stat.getMaxTime());
+		assertEquals(49_999, stat.getAverageTime());
+
+		stat.reset();
+		assertEquals(0, stat.getCount());
+		assertEquals(0, stat.getAverageTime());
+	}
+
+	@Test
+	public void testLaps() throws Exception {
+		TimerStat stat = new TimerStat();
+
+		try (TimerStat.Lap lap = stat.start()) {
+			Thread.sleep(2);
+			assertTrue(lap.getElapsedTime() >= 2_000_000);
+		}
+		TimerStat.Lap lap = stat.start();
+		lap.close();
+		lap.close(); // is only recorded once
+		stat.time(() -> {
+		});
+		stat.record(1, TimeUnit.SECONDS);
+
+		assertEquals(4, stat.getCount());
+		assertEquals(TimeUnit.SECONDS.toNanos(1), stat.getMaxTime());
+		assertTrue(stat.getTotalTime(TimeUnit.MILLISECONDS) >= 1002);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			stat.record(-1);
+		});
+	}
+
+}
@@ -16,11 +16,14 @@
 package de.damios.guacamole.gdx.log;
 
 import java.util.Formatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import com.badlogic.gdx.Application;
-import com.badlogic.gdx.Gdx;
 
 import de.damios.guacamole.gdx.log.LoggerService;
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
 import text.formic.Stringf;
 
 /**
@@ -28,6 +31,9 @@ import text.formic.Stringf;
  * {@link Application#log(String, String) Gdx.app.log(String, String)} etc. Can
  * be obtained via {@link LoggerService#getLogger(Class)}.
  * <p>
+ * The messages are passed on to the {@linkplain LoggerService#getAppender()
+ * appender}, which, by default, is {@link LogAppender#GDX}.
+ * <p>
  * Adds support for formatting ({@link Stringf#format(String, Object...)}). For
  * example, calling {@code logger.error("something went %s!", "wrong")} would
  * lead to the following output:
@@ -40,10 +46,30 @@ import text.formic.Stringf;
  */
 public class Logger {
 
-	private String classPrefix;
+	private static final Set<String> mismatchedMessages = new HashSet<>();
 
-	Logger(String className) {
-		this.classPrefix = Stringf.format("[%s]: ", className);
+	private static final int TRACE_ORDINAL = LogLevel.TRACE.ordinal();
+	private static final int DEBUG_ORDINAL = LogLevel.DEBUG.ordinal();
+	private static final int INFO_ORDINAL = LogLevel.INFO.ordinal();
+	private static final int WARN_ORDINAL = LogLevel.WARN.ordinal();
+	private static final int ERROR_ORDINAL = LogLevel.ERROR.ordinal();
+
+	private final String name;
+	/**
+	 * Is updated by the {@link LoggerService} whenever the naming settings are
+	 * changed.
+	 */
+	private volatile String classPrefix;
+	/**
+	 * The ordinal of the log level that applies to this logger. Is updated by
+	 * the {@link LoggerService} whenever log levels are changed.
+	 */
+	private volatile int logLevel;
+
+	Logger(String name, String className, LogLevel logLevel) {
+		this.name = name;
+		setClassName(className);
+		this.logLevel = logLevel.ordinal();
 	}
 
 	/**
@@ -60,9 +86,121 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void trace(String message, Object... args) {
-		if (LoggerService.isTraceEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.debug("TRACE", getFormattedString(message, args));
+		if (isTraceEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, args));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message without any arguments.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with two arguments.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg1, Object arg2) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with three arguments.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg1, Object arg2, Object arg3) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg1, arg2, arg3));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one {@code int} argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, int arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one {@code long} argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, long arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one {@code float} argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, float arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one {@code double} argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, double arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message with one {@code char} argument.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, char arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>trace</i> message, which is only computed if trace messages are
+	 * logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void trace(Supplier<String> message) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -79,9 +217,121 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void debug(String message, Object... args) {
-		if (LoggerService.isDebugEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.debug("DEBUG", getFormattedString(message, args));
+		if (isDebugEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, args));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message without any arguments.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with two arguments.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg1, Object arg2) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with three arguments.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg1, Object arg2, Object arg3) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg1, arg2, arg3));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one {@code int} argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, int arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one {@code long} argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, long arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one {@code float} argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, float arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one {@code double} argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, double arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message with one {@code char} argument.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, char arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>debug</i> message, which is only computed if debug messages are
+	 * logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void debug(Supplier<String> message) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -98,9 +348,121 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void info(String message, Object... args) {
-		if (LoggerService.isInfoEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.log("INFO ", getFormattedString(message, args));
+		if (isInfoEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, args));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message without any arguments.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with two arguments.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg1, Object arg2) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg1, arg2));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with three arguments.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg1, Object arg2, Object arg3) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg1, arg2, arg3));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one {@code int} argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, int arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one {@code long} argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, long arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one {@code float} argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, float arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one {@code double} argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, double arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message with one {@code char} argument.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, char arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>informational</i> message, which is only computed if
+	 * informational messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void info(Supplier<String> message) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -117,9 +479,121 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void warn(String message, Object... args) {
-		if (LoggerService.isWarnEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.error("WARN ", getFormattedString(message, args));
+		if (isWarnEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, args));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message without any arguments.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with two arguments.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg1, Object arg2) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with three arguments.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg1, Object arg2, Object arg3) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg1, arg2, arg3));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one {@code int} argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, int arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one {@code long} argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, long arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one {@code float} argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, float arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one {@code double} argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, double arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message with one {@code char} argument.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, char arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs a <i>warning</i> message, which is only computed if warning messages
+	 * are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void warn(Supplier<String> message) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -136,19 +610,196 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void error(String message, Object... args) {
-		if (LoggerService.isErrorEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.error("ERROR", getFormattedString(message, args));
+		if (isErrorEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, args));
+	}
+
+	/**
+	 * Logs an <i>error</i> message without any arguments.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with two arguments.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg1, Object arg2) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg1, arg2));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with three arguments.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg1, Object arg2, Object arg3) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg1, arg2, arg3));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one {@code int} argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, int arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one {@code long} argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, long arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one {@code float} argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, float arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one {@code double} argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, double arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message with one {@code char} argument.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, char arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					getFormattedString(message, arg));
+	}
+
+	/**
+	 * Logs an <i>error</i> message, which is only computed if error messages
+	 * are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void error(Supplier<String> message) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					classPrefix + message.get());
 	}
 
 	private String getFormattedString(String message, Object... args) {
 		try {
 			return classPrefix + Stringf.format(message, args);
 		} catch (IllegalArgumentException e) {
+			// GWT is single-threaded
+			if (isWarnEnabled()
+					&& mismatchedMessages.add(message))
+				LoggerService.getAppender().append(LogLevel.WARN,
+						"[Logger]: the arguments of the log message \""
+								+ message + "\" don't match (" + e.getMessage()
+								+ "); it is logged unformatted");
 			return classPrefix + message;
 		}
 	}
 
+	/**
+	 * @return the fully qualified name of the class this logger belongs to
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the log level that applies to this logger
+	 * @see LoggerService#setLogLevel(String, LogLevel)
+	 */
+	public LogLevel getLogLevel() {
+		return LogLevel.values()[logLevel];
+	}
+
+	void setLogLevel(LogLevel logLevel) {
+		this.logLevel = logLevel.ordinal();
+	}
+
+	void setClassName(String className) {
+		this.classPrefix = Stringf.format("[%s]: ", className);
+	}
+
+	/**
+	 * @return whether <i>trace</i> messages are logged by this logger
+	 */
+	public boolean isTraceEnabled() {
+		return logLevel >= TRACE_ORDINAL;
+	}
+
+	/**
+	 * @return whether <i>debug</i> messages are logged by this logger
+	 */
+	public boolean isDebugEnabled() {
+		return logLevel >= DEBUG_ORDINAL;
+	}
+
+	/**
+	 * @return whether <i>info</i> messages are logged by this logger
+	 */
+	public boolean isInfoEnabled() {
+		return logLevel >= INFO_ORDINAL;
+	}
+
+	/**
+	 * @return whether <i>warn</i> messages are logged by this logger
+	 */
+	public boolean isWarnEnabled() {
+		return logLevel >= WARN_ORDINAL;
+	}
+
+	/**
+	 * @return whether <i>error</i> messages are logged by this logger
+	 */
+	public boolean isErrorEnabled() {
+		return logLevel >= ERROR_ORDINAL;
+	}
+
 	@Override
 	public String toString() {
 		return "Logger{classPrefix=" + classPrefix + "}";
@@ -158,8 +809,7 @@ public class Logger {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result
-				+ ((classPrefix == null) ? 0 : classPrefix.hashCode());
+		result = prime * result + ((name == null) ? 0 : name.hashCode());
 		return result;
 	}
 
@@ -172,10 +822,10 @@ public class Logger {
 		if (getClass() != obj.getClass())
 			return false;
 		Logger other = (Logger) obj;
-		if (classPrefix == null) {
-			if (other.classPrefix != null)
+		if (name == null) {
+			if (other.name != null)
 				return false;
-		} else if (!classPrefix.equals(other.classPrefix))
+		} else if (!name.equals(other.name))
 			return false;
 		return true;
 	}
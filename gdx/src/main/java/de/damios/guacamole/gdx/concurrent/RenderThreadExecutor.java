@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.gdx.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.badlogic.gdx.Application;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.Stopwatch;
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * An {@link Executor} running tasks on the render thread, e.g. to upload a
+ * texture after it was decoded in the background. Tasks can be submitted from
+ * any thread; this includes continuations of {@link CompletableFuture}s, e.g.
+ * via {@link CompletableFuture#thenAcceptAsync(Consumer, Executor)}.
+ * <p>
+ * In contrast to {@link Application#postRunnable(Runnable)}, not all pending
+ * tasks are executed in the next frame: every frame, tasks are only executed
+ * until the {@linkplain #setFrameBudget(long, TimeUnit) frame budget} is used
+ * up. The remaining tasks are carried over to the following frames. To
+ * guarantee progress, at least one task is executed per frame.
+ * <p>
+ * Has to be updated every frame via {@link #update()}.
+ * 
+ * @author damios
+ */
+@GwtIncompatible
+public class RenderThreadExecutor implements Executor {
+
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger taskCount = new AtomicInteger();
+	private final Stopwatch stopwatch = Stopwatch.createUnstarted();
+	private volatile long frameBudget;
+
+	/**
+	 * Creates an executor with a frame budget of 2 ms.
+	 */
+	public RenderThreadExecutor() {
+		this(2, TimeUnit.MILLISECONDS);
+	}
+
+	public RenderThreadExecutor(long frameBudget, TimeUnit unit) {
+		setFrameBudget(frameBudget, unit);
+	}
+
+	/**
+	 * Queues a task to be executed on the render thread in one of the next
+	 * frames. Tasks are executed in the order they were submitted.
+	 * 
+	 * @param task
+	 *            the task to execute
+	 */
+	@Override
+	public void execute(Runnable task) {
+		Preconditions.checkNotNull(task, "task cannot be null");
+		tasks.add(task);
+		taskCount.incrementAndGet();
+	}
+
+	/**
+	 * Executes queued tasks until the frame budget is used up. Has to be called
+	 * once per frame on the render thread.
+	 * <p>
+	 * If a task throws an exception, it is propagated to the caller; the
+	 * remaining tasks stay queued.
+	 * 
+	 * @return the number of tasks that were executed
+	 */
+	public int update() {
+		stopwatch.reset().start();
+		int executed = 0;
+
+		Runnable task;
+		while ((executed == 0 || stopwatch.getTime() < frameBudget)
+				&& (task = tasks.poll()) != null) {
+			taskCount.decrementAndGet();
+			executed++;
+			task.run();
+		}
+
+		stopwatch.stop();
+		return executed;
+	}
+
+	/**
+	 * Sets the time that can be spent on executing tasks per frame. If the
+	 * budget is used up, the remaining tasks are carried over to the next
+	 * frame.
+	 * 
+	 * @param frameBudget
+	 * @param unit
+	 *            the time unit of {@code frameBudget}
+	 */
+	public void setFrameBudget(long frameBudget, TimeUnit unit) {
+		Preconditions.checkArgument(frameBudget >= 0,
+				"the frame budget cannot be negative");
+		this.frameBudget = unit.toNanos(frameBudget);
+	}
+
+	/**
+	 * @return the time that can be spent on executing tasks per frame in
+	 *         nanoseconds
+	 */
+	public long getFrameBudget() {
+		return frameBudget;
+	}
+
+	/**
+	 * @return the approximate number of tasks that are waiting to be executed
+	 */
+	public int getQueuedTaskCount() {
+		return taskCount.get();
+	}
+
+	/**
+	 * @return the time in nanoseconds spent on executing tasks during the last
+	 *         {@linkplain #update() update}
+	 */
+	public long getLastUpdateTime() {
+		return stopwatch.getTime();
+	}
+
+}
@@ -58,13 +58,32 @@ public final class GLUtils {
 	 * @return the current gl viewport ({@code GL_VIEWPORT}) as an array,
 	 *         containing four values: the x and y window coordinates of the
 	 *         viewport, followed by its width and height.
+	 * @see #getViewport(int[])
 	 */
-	public static synchronized int[] getViewport() {
+	public static int[] getViewport() {
+		return getViewport(new int[4]);
+	}
+
+	/**
+	 * Writes the current gl viewport ({@code GL_VIEWPORT}) into the given
+	 * array. In contrast to {@link #getViewport()}, this doesn't allocate
+	 * anything, so it can be called every frame.
+	 * 
+	 * @param viewport
+	 *            the array the x and y window coordinates of the viewport,
+	 *            followed by its width and height, are written to; has to
+	 *            have at least four elements
+	 * @return the given array
+	 */
+	public static synchronized int[] getViewport(int[] viewport) {
 		IntBuffer intBuf = INT_BUFF;
 		Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, intBuf);
 
-		return new int[] { intBuf.get(0), intBuf.get(1), intBuf.get(2),
-				intBuf.get(3) };
+		viewport[0] = intBuf.get(0);
+		viewport[1] = intBuf.get(1);
+		viewport[2] = intBuf.get(2);
+		viewport[3] = intBuf.get(3);
+		return viewport;
 	}
 
 }
@@ -48,7 +48,7 @@ import de.damios.guacamole.Preconditions;
 public class NestableFrameBuffer extends FrameBuffer {
 
 	private int previousFBOHandle = -1;
-	private int[] previousViewport = new int[4];
+	private final int[] previousViewport = new int[4];
 	private boolean isBound = false;
 
 	private final boolean hasDepth;
@@ -97,7 +97,7 @@ public class NestableFrameBuffer extends FrameBuffer {
 		previousFBOHandle = GLUtils.getBoundFboHandle();
 		bind();
 
-		previousViewport = GLUtils.getViewport();
+		GLUtils.getViewport(previousViewport);
 		setFrameBufferViewport();
 	}
 
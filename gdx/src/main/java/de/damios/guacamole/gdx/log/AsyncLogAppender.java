@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.gdx.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Exceptions;
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.annotations.GwtIncompatible;
+import de.damios.guacamole.concurrent.DaemonThreadFactory;
+import de.damios.guacamole.concurrent.RingBuffer;
+import de.damios.guacamole.concurrent.WaitStrategy;
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * A {@link LogAppender} that moves writing the log messages off the calling
+ * thread, e.g. so logging in the render loop doesn't stall a frame when the
+ * console is slow.
+ * <p>
+ * The already formatted messages are put into a bounded
+ * {@linkplain RingBuffer ring buffer}. A background thread drains this buffer
+ * in batches and passes the messages on to the delegate appender. What
+ * happens if the buffer is full is determined by the {@link OverflowPolicy}.
+ * If messages are dropped, a warning stating their number is logged as soon
+ * as there is room again.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * LoggerService.setAppender(new AsyncLogAppender());
+ * }
+ * </pre>
+ *
+ * When the application is disposed, the appender should be
+ * {@linkplain #close() closed}, so the remaining messages are written.
+ * <p>
+ * The delegate is never called by two threads at the same time. Exceptions
+ * thrown by it are passed on to the
+ * {@linkplain #setErrorHandler(Consumer) error handler}.
+ *
+ * @author damios
+ */
+@GwtIncompatible
+public class AsyncLogAppender implements LogAppender, AutoCloseable {
+
+	public enum OverflowPolicy {
+		/**
+		 * New messages are discarded while the buffer is full. Logging never
+		 * blocks.
+		 */
+		DROP,
+		/**
+		 * The logging thread waits until there is room in the buffer. No
+		 * messages are lost, but a slow delegate can stall the logging
+		 * threads.
+		 */
+		BLOCK,
+		/**
+		 * While the buffer is full, only every
+		 * {@linkplain AsyncLogAppender#setSampleRate(int) n-th} message is
+		 * kept; the logging thread waits until there is room for it. All other
+		 * messages are discarded.
+		 */
+		SAMPLE
+	}
+
+	private static final int BATCH_SIZE = 64;
+	private static final long FLUSH_POLL_NANOS = TimeUnit.MILLISECONDS
+			.toNanos(1);
+
+	private final LogAppender delegate;
+	private final RingBuffer<Record> buffer;
+	private final OverflowPolicy overflowPolicy;
+	private volatile int sampleRate = 10;
+	private volatile @Nullable Consumer<? super RuntimeException> errorHandler;
+	private final Thread thread;
+	private volatile boolean closed = false;
+	/**
+	 * Whether the background thread is about to park or parked because the
+	 * buffer is empty. In this case, it has to be woken up by the logging
+	 * threads.
+	 */
+	private volatile boolean idle = false;
+	/**
+	 * Guards all calls to the delegate, as well as {@link #written} and
+	 * {@link #reportedDropped}.
+	 */
+	private final Object writeLock = new Object();
+
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong overflowed = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private volatile long written = 0;
+	private long reportedDropped = 0;
+
+	/**
+	 * Creates an appender that passes its messages on to
+	 * {@link LogAppender#GDX}. Can buffer up to 4096 messages; if the buffer is
+	 * full, new messages are {@linkplain OverflowPolicy#DROP dropped}.
+	 */
+	public AsyncLogAppender() {
+		this(LogAppender.GDX, 4096, OverflowPolicy.DROP);
+	}
+
+	/**
+	 * @param delegate
+	 *            the appender the messages are passed on to; is called by
+	 *            the background thread and, after the appender was closed,
+	 *            by the logging threads, but never concurrently
+	 * @param capacity
+	 *            the number of messages that can be buffered
+	 * @param overflowPolicy
+	 *            what to do if the buffer is full
+	 */
+	public AsyncLogAppender(LogAppender delegate, int capacity,
+			OverflowPolicy overflowPolicy) {
+		Preconditions.checkNotNull(delegate, "delegate cannot be null");
+		Preconditions.checkNotNull(overflowPolicy,
+				"overflowPolicy cannot be null");
+
+		this.delegate = delegate;
+		this.buffer = RingBuffer.multiProducer(capacity, WaitStrategy.PARK);
+		this.overflowPolicy = overflowPolicy;
+		this.thread = new DaemonThreadFactory("AsyncLogAppender")
+				.newThread(this::drain);
+		this.thread.start();
+	}
+
+	/**
+	 * @param sampleRate
+	 *            if the {@linkplain OverflowPolicy#SAMPLE sample policy} is
+	 *            used, every n-th message is kept while the buffer is full;
+	 *            the default is {@code 10}
+	 * @return this appender for chaining
+	 */
+	public AsyncLogAppender setSampleRate(int sampleRate) {
+		Preconditions.checkArgument(sampleRate > 0,
+				"the sample rate has to be positive");
+		this.sampleRate = sampleRate;
+		return this;
+	}
+
+	/**
+	 * @param errorHandler
+	 *            the handler for exceptions thrown by the delegate; if
+	 *            {@code null}, the stack trace is printed to
+	 *            {@link System#err}
+	 * @return this appender for chaining
+	 */
+	public AsyncLogAppender setErrorHandler(
+			@Nullable Consumer<? super RuntimeException> errorHandler) {
+		this.errorHandler = errorHandler;
+		return this;
+	}
+
+	@Override
+	public void append(LogLevel level, String message) {
+		Record record = new Record(level, message);
+		if (closed) {
+			synchronized (writeLock) {
+				// the buffered messages are written first
+				drainBuffer(Integer.MAX_VALUE);
+				write(record);
+			}
+			return;
+		}
+
+		if (!buffer.offer(record)) {
+			switch (overflowPolicy) {
+			case DROP:
+				dropped.incrementAndGet();
+				return;
+			case SAMPLE:
+				if (overflowed.incrementAndGet() % sampleRate != 0) {
+					dropped.incrementAndGet();
+					return;
+				}
+				if (!put(record))
+					return;
+				break;
+			case BLOCK:
+				if (!put(record))
+					return;
+				break;
+			}
+		}
+		enqueued.incrementAndGet();
+
+		if (idle)
+			LockSupport.unpark(thread);
+	}
+
+	/**
+	 * Waits until there is room for the given record.
+	 *
+	 * @return whether the record was added to the buffer
+	 */
+	private boolean put(Record record) {
+		try {
+			buffer.put(record);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			dropped.incrementAndGet();
+			return false;
+		}
+	}
+
+	private void drain() {
+		while (!closed || !buffer.isEmpty()) {
+			int count;
+			synchronized (writeLock) {
+				count = drainBuffer(BATCH_SIZE);
+				reportDropped();
+			}
+
+			if (count == 0) {
+				idle = true;
+				// Re-check after publishing the flag: either the logging
+				// thread sees it and unparks this thread or the new message
+				// is seen here
+				if (!closed && buffer.isEmpty())
+					LockSupport.park(this);
+				idle = false;
+			}
+		}
+	}
+
+	/**
+	 * Has to be called while holding the {@link #writeLock}.
+	 */
+	private int drainBuffer(int max) {
+		int count = buffer.drainTo(this::write, max);
+		written += count;
+		return count;
+	}
+
+	/**
+	 * Has to be called while holding the {@link #writeLock}.
+	 */
+	private void write(Record record) {
+		try {
+			delegate.append(record.level, record.message);
+		} catch (RuntimeException e) {
+			// the background thread must not die because of a faulty
+			// delegate
+			Consumer<? super RuntimeException> handler = errorHandler;
+			if (handler != null)
+				handler.accept(e);
+			else
+				System.err.print("[AsyncLogAppender]: the delegate failed: "
+						+ Exceptions.getStackTraceAsString(e));
+		}
+	}
+
+	/**
+	 * Has to be called while holding the {@link #writeLock}.
+	 */
+	private void reportDropped() {
+		long d = dropped.get();
+		if (d != reportedDropped) {
+			write(new Record(LogLevel.WARN, "[AsyncLogAppender]: "
+					+ (d - reportedDropped) + " log message(s) were dropped"));
+			reportedDropped = d;
+		}
+	}
+
+	/**
+	 * Waits until all messages appended before this call have been passed on
+	 * to the delegate.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param unit
+	 *            the time unit of {@code timeout}
+	 * @return {@code true} if all messages were written, {@code false} if the
+	 *         timeout elapsed first
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public boolean flush(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long target = enqueued.get();
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		while (written < target) {
+			if (Thread.interrupted())
+				throw new InterruptedException();
+			if (System.nanoTime() - deadline >= 0)
+				return false;
+			LockSupport.parkNanos(FLUSH_POLL_NANOS);
+		}
+		return true;
+	}
+
+	/**
+	 * Stops the background thread after all buffered messages have been
+	 * written. Waits up to one second for the remaining messages to be
+	 * written.
+	 * <p>
+	 * Messages appended afterwards are passed on to the delegate on the
+	 * logging thread, after any messages that are still buffered.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join(1000);
+			if (!thread.isAlive()) { // messages that raced with closing
+				synchronized (writeLock) {
+					drainBuffer(Integer.MAX_VALUE);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return the number of messages that were discarded because the buffer
+	 *         was full
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return the number of messages currently waiting to be written
+	 */
+	public int getPendingCount() {
+		return buffer.size();
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	private static final class Record {
+		private final LogLevel level;
+		private final String message;
+
+		private Record(LogLevel level, String message) {
+			this.level = level;
+			this.message = message;
+		}
+	}
+
+}
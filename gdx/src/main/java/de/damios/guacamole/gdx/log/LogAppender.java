@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.gdx.log;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Writes the already formatted messages of the {@link Logger}s somewhere. Can
+ * be set via {@link LoggerService#setAppender(LogAppender)}.
+ *
+ * @author damios
+ * @see AsyncLogAppender
+ */
+@FunctionalInterface
+public interface LogAppender {
+
+	/**
+	 * The default appender. Passes the messages on to
+	 * {@link Application#log(String, String) Gdx.app.log(String, String)}
+	 * etc.
+	 */
+	public static final LogAppender GDX = (level, message) -> {
+		switch (level) {
+		case TRACE:
+			Gdx.app.debug("TRACE", message);
+			break;
+		case DEBUG:
+			Gdx.app.debug("DEBUG", message);
+			break;
+		case INFO:
+			Gdx.app.log("INFO ", message);
+			break;
+		case WARN:
+			Gdx.app.error("WARN ", message);
+			break;
+		case ERROR:
+			Gdx.app.error("ERROR", message);
+			break;
+		default:
+			break;
+		}
+	};
+
+	/**
+	 * @param level
+	 *            the level of the message; never {@link LogLevel#NONE}
+	 * @param message
+	 *            the formatted message, including the class prefix
+	 */
+	public void append(LogLevel level, String message);
+
+}
@@ -16,9 +16,9 @@
 package de.damios.guacamole.gdx.log;
 
 import java.util.Formatter;
+import java.util.function.Supplier;
 
 import com.badlogic.gdx.Application;
-import com.badlogic.gdx.Gdx;
 
 import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
 
@@ -27,6 +27,9 @@ import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
  * {@link Application#log(String, String) Gdx.app.log(String, String)} etc. Can
  * be obtained via {@link LoggerService#getLogger(Class)}.
  * <p>
+ * The messages are passed on to the {@linkplain LoggerService#getAppender()
+ * appender}, which, by default, is {@link LogAppender#GDX}.
+ * <p>
  * Adds support for formatting ({@link String#format(String, Object...)}). For
  * example, calling {@code logger.error("something went %s!", "wrong")} would
  * lead to the following output:
@@ -35,14 +38,42 @@ import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
  * [ERROR] [c.b.g.m.MyGdxGame]: something went wrong!
  * </pre>
  * 
+ * To keep logging cheap on hot paths, there are overloads for up to three
+ * arguments, which don't need a varargs array, as well as for single
+ * primitive arguments, which aren't boxed. Messages only using {@code %s},
+ * {@code %d}, {@code %%} and {@code %n} are formatted into a reused
+ * {@link StringBuilder} instead of via
+ * {@link String#format(String, Object...)}. The messages are parsed only once
+ * and if a message doesn't match its arguments, this is reported once as a
+ * warning. Messages that are expensive to build can be passed as
+ * {@link Supplier}, which is only called if the log level is enabled.
+ * 
  * @author damios
  */
 public class Logger {
 
-	private String classPrefix;
+	private static final int TRACE_ORDINAL = LogLevel.TRACE.ordinal();
+	private static final int DEBUG_ORDINAL = LogLevel.DEBUG.ordinal();
+	private static final int INFO_ORDINAL = LogLevel.INFO.ordinal();
+	private static final int WARN_ORDINAL = LogLevel.WARN.ordinal();
+	private static final int ERROR_ORDINAL = LogLevel.ERROR.ordinal();
 
-	Logger(String className) {
-		this.classPrefix = String.format("[%s]: ", className);
+	private final String name;
+	/**
+	 * Is updated by the {@link LoggerService} whenever the naming settings are
+	 * changed.
+	 */
+	private volatile String classPrefix;
+	/**
+	 * The ordinal of the log level that applies to this logger. Is updated by
+	 * the {@link LoggerService} whenever log levels are changed.
+	 */
+	private volatile int logLevel;
+
+	Logger(String name, String className, LogLevel logLevel) {
+		this.name = name;
+		setClassName(className);
+		this.logLevel = logLevel.ordinal();
 	}
 
 	/**
@@ -59,9 +90,130 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void trace(String message, Object... args) {
-		if (LoggerService.isTraceEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.debug("TRACE", getFormattedString(message, args));
+		if (isTraceEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, args));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message without any arguments.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one argument. In
+	 * contrast to {@link #trace(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with two arguments. In
+	 * contrast to {@link #trace(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg1, Object arg2) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with three arguments. In
+	 * contrast to {@link #trace(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, Object arg1, Object arg2, Object arg3) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg1, arg2,
+							arg3));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one {@code int}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, int arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one {@code long}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, long arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one {@code float}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, float arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one {@code double}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, double arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message with one {@code char}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #trace(String, Object...)
+	 */
+	public void trace(String message, char arg) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#TRACE trace} message, which is only computed
+	 * if trace messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void trace(Supplier<String> message) {
+		if (isTraceEnabled())
+			LoggerService.getAppender().append(LogLevel.TRACE,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -78,9 +230,130 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void debug(String message, Object... args) {
-		if (LoggerService.isDebugEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.debug("DEBUG", getFormattedString(message, args));
+		if (isDebugEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, args));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message without any arguments.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one argument. In
+	 * contrast to {@link #debug(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with two arguments. In
+	 * contrast to {@link #debug(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg1, Object arg2) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with three arguments. In
+	 * contrast to {@link #debug(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, Object arg1, Object arg2, Object arg3) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg1, arg2,
+							arg3));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one {@code int}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, int arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one {@code long}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, long arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one {@code float}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, float arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one {@code double}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, double arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message with one {@code char}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #debug(String, Object...)
+	 */
+	public void debug(String message, char arg) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#DEBUG debug} message, which is only computed
+	 * if debug messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void debug(Supplier<String> message) {
+		if (isDebugEnabled())
+			LoggerService.getAppender().append(LogLevel.DEBUG,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -97,9 +370,134 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void info(String message, Object... args) {
-		if (LoggerService.isInfoEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.log("INFO ", getFormattedString(message, args));
+		if (isInfoEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, args));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message without any
+	 * arguments.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one
+	 * argument. In contrast to {@link #info(String, Object...)}, no array is
+	 * allocated.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with two
+	 * arguments. In contrast to {@link #info(String, Object...)}, no array is
+	 * allocated.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg1, Object arg2) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg1, arg2));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with three
+	 * arguments. In contrast to {@link #info(String, Object...)}, no array is
+	 * allocated.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, Object arg1, Object arg2, Object arg3) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg1, arg2,
+							arg3));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one {@code
+	 * int} argument, which isn't boxed.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, int arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one {@code
+	 * long} argument, which isn't boxed.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, long arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one {@code
+	 * float} argument, which isn't boxed.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, float arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one {@code
+	 * double} argument, which isn't boxed.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, double arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message with one {@code
+	 * char} argument, which isn't boxed.
+	 * 
+	 * @see #info(String, Object...)
+	 */
+	public void info(String message, char arg) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#INFO informational} message, which is only
+	 * computed if informational messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void info(Supplier<String> message) {
+		if (isInfoEnabled())
+			LoggerService.getAppender().append(LogLevel.INFO,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -116,9 +514,130 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void warn(String message, Object... args) {
-		if (LoggerService.isWarnEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.error("WARN ", getFormattedString(message, args));
+		if (isWarnEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, args));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message without any arguments.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one argument. In
+	 * contrast to {@link #warn(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with two arguments. In
+	 * contrast to {@link #warn(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg1, Object arg2) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg1, arg2));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with three arguments.
+	 * In contrast to {@link #warn(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, Object arg1, Object arg2, Object arg3) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg1, arg2,
+							arg3));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one {@code int}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, int arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one {@code long}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, long arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one {@code float}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, float arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one {@code double}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, double arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message with one {@code char}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #warn(String, Object...)
+	 */
+	public void warn(String message, char arg) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs a {@linkplain LogLevel#WARN warning} message, which is only computed
+	 * if warning messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void warn(Supplier<String> message) {
+		if (isWarnEnabled())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					classPrefix + message.get());
 	}
 
 	/**
@@ -135,17 +654,198 @@ public class Logger {
 	 * @see Formatter
 	 */
 	public void error(String message, Object... args) {
-		if (LoggerService.isErrorEnabled()) // so the message isn't formatted
-											// unnecessarily
-			Gdx.app.error("ERROR", getFormattedString(message, args));
+		if (isErrorEnabled()) // so the message isn't formatted unnecessarily
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, args));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message without any arguments.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message));
 	}
 
-	private String getFormattedString(String message, Object... args) {
-		try {
-			return classPrefix + String.format(message, args);
-		} catch (IllegalArgumentException e) {
-			return classPrefix + message;
-		}
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one argument. In
+	 * contrast to {@link #error(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with two arguments. In
+	 * contrast to {@link #error(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg1, Object arg2) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg1, arg2));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with three arguments.
+	 * In contrast to {@link #error(String, Object...)}, no array is allocated.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, Object arg1, Object arg2, Object arg3) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg1, arg2,
+							arg3));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one {@code int}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, int arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one {@code long}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, long arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one {@code float}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, float arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one {@code double}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, double arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message with one {@code char}
+	 * argument, which isn't boxed.
+	 * 
+	 * @see #error(String, Object...)
+	 */
+	public void error(String message, char arg) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					MessageFormatter.format(this, message, arg));
+	}
+
+	/**
+	 * Logs an {@linkplain LogLevel#ERROR error} message, which is only computed
+	 * if error messages are logged.
+	 * 
+	 * @param message
+	 *            supplies the log message; the message isn't formatted
+	 */
+	public void error(Supplier<String> message) {
+		if (isErrorEnabled())
+			LoggerService.getAppender().append(LogLevel.ERROR,
+					classPrefix + message.get());
+	}
+
+
+	/**
+	 * @return the fully qualified name of the class this logger belongs to
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the log level that applies to this logger
+	 * @see LoggerService#setLogLevel(String, LogLevel)
+	 */
+	public LogLevel getLogLevel() {
+		return LogLevel.values()[logLevel];
+	}
+
+	void setLogLevel(LogLevel logLevel) {
+		this.logLevel = logLevel.ordinal();
+	}
+
+	void setClassName(String className) {
+		this.classPrefix = String.format("[%s]: ", className);
+	}
+
+	String getClassPrefix() {
+		return classPrefix;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#TRACE trace} messages are logged
+	 *         by this logger
+	 */
+	public boolean isTraceEnabled() {
+		return logLevel >= TRACE_ORDINAL;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#DEBUG debug} messages are logged
+	 *         by this logger
+	 */
+	public boolean isDebugEnabled() {
+		return logLevel >= DEBUG_ORDINAL;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#INFO info} messages are logged
+	 *         by this logger
+	 */
+	public boolean isInfoEnabled() {
+		return logLevel >= INFO_ORDINAL;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#WARN warn} messages are logged
+	 *         by this logger
+	 */
+	public boolean isWarnEnabled() {
+		return logLevel >= WARN_ORDINAL;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#ERROR error} messages are logged
+	 *         by this logger
+	 */
+	public boolean isErrorEnabled() {
+		return logLevel >= ERROR_ORDINAL;
 	}
 
 	@Override
@@ -157,8 +857,7 @@ public class Logger {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result
-				+ ((classPrefix == null) ? 0 : classPrefix.hashCode());
+		result = prime * result + ((name == null) ? 0 : name.hashCode());
 		return result;
 	}
 
@@ -171,10 +870,10 @@ public class Logger {
 		if (getClass() != obj.getClass())
 			return false;
 		Logger other = (Logger) obj;
-		if (classPrefix == null) {
-			if (other.classPrefix != null)
+		if (name == null) {
+			if (other.name != null)
 				return false;
-		} else if (!classPrefix.equals(other.classPrefix))
+		} else if (!name.equals(other.name))
 			return false;
 		return true;
 	}
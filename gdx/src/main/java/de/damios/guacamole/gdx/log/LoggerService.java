@@ -17,11 +17,13 @@ package de.damios.guacamole.gdx.log;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 
 import de.damios.guacamole.ClassUtils;
+import de.damios.guacamole.Preconditions;
 import text.formic.Stringf;
 
 /**
@@ -35,6 +37,8 @@ import text.formic.Stringf;
  * <li>the ({@linkplain #setUseAbbreviatedClassNames(boolean) abbreviated} and
  * {@linkplain #setPadClassNames(boolean) padded}) name of the class from
  * wherein the logger was called is printed</li>
+ * <li>the log level can be {@linkplain #setLogLevel(String, LogLevel)
+ * configured per package or class}</li>
  * </ul>
  */
 public class LoggerService {
@@ -75,19 +79,27 @@ public class LoggerService {
 
 	}
 
-	private static LogLevel logLevel = LogLevel.INFO;
+	private static volatile LogLevel logLevel = LogLevel.INFO;
+	/**
+	 * The log levels of packages and classes. Guarded by
+	 * {@code LoggerService.class}, as are changes to the naming settings.
+	 */
+	private static final Map<String, LogLevel> logLevels = new HashMap<>();
+	private static volatile LogAppender appender = LogAppender.GDX;
 
-	private final static Map<String, Logger> loggers = new HashMap<>();
-	private static boolean abbreviateClassNames = true;
-	private static int minClassNameLength = 34;
-	private static int maxClassNameLength = 34;
+	private final static Map<Class<?>, Logger> loggers = new ConcurrentHashMap<>();
+	private static volatile boolean abbreviateClassNames = true;
+	private static volatile int minClassNameLength = 34;
+	private static volatile int maxClassNameLength = 34;
 
 	private LoggerService() {
 		throw new UnsupportedOperationException();
 	}
 
 	/**
-	 * Used to obtain a {@link Logger} for the specified class.
+	 * Used to obtain a {@link Logger} for the specified class. Can be called
+	 * from any thread; repeated calls for the same class return the same,
+	 * cached logger.
 	 * 
 	 * @param clazz
 	 *            The class from wherein the logger is called. The class's name
@@ -95,6 +107,29 @@ public class LoggerService {
 	 * @return
 	 */
 	public static Logger getLogger(Class<?> clazz) {
+		Logger logger = loggers.get(clazz);
+		if (logger != null)
+			return logger;
+
+		logger = loggers.computeIfAbsent(clazz, LoggerService::createLogger);
+		// The configuration may have changed while the logger was created,
+		// before it could be found in the registry
+		configureLogger(clazz, logger);
+		return logger;
+	}
+
+	private static synchronized Logger createLogger(Class<?> clazz) {
+		return new Logger(clazz.getName(), getDisplayName(clazz),
+				resolveLogLevel(clazz.getName()));
+	}
+
+	private static synchronized void configureLogger(Class<?> clazz,
+			Logger logger) {
+		logger.setClassName(getDisplayName(clazz));
+		logger.setLogLevel(resolveLogLevel(clazz.getName()));
+	}
+
+	private static String getDisplayName(Class<?> clazz) {
 		String className = abbreviateClassNames
 				? ClassUtils.getAbbreviatedClassName(clazz)
 				: clazz.getName();
@@ -104,70 +139,184 @@ public class LoggerService {
 					"%-" + minClassNameLength + "." + maxClassNameLength + "s",
 					className);
 		}
+		return className;
+	}
 
-		return getLogger(className);
+	/**
+	 * Sets the default log level, which applies to all {@link Logger}s
+	 * without a more specific {@linkplain #setLogLevel(String, LogLevel)
+	 * package or class log level}. This also changes the
+	 * {@linkplain Application#setLogLevel(int) libGDX log level} to match the
+	 * most verbose configured level.
+	 * 
+	 * @param level
+	 */
+	public static synchronized void setLogLevel(LogLevel level) {
+		Preconditions.checkNotNull(level, "level cannot be null");
+		logLevel = level;
+		updateLogLevels();
 	}
 
-	private static Logger getLogger(String name) {
-		Logger logger = loggers.get(name);
-		if (logger != null)
-			return logger;
-		else {
-			logger = new Logger(name);
-			loggers.put(name, logger);
-			return logger;
-		}
+	/**
+	 * Sets the log level of a package, including its sub-packages, or of a
+	 * class, including its nested classes. The most specific configured level
+	 * applies. For example, to only log debug messages of the reflection
+	 * utilities:
+	 * 
+	 * <pre>
+	 * {@code
+	 * LoggerService.setLogLevel("de.damios.guacamole.gdx.reflection", LogLevel.DEBUG);
+	 * }
+	 * </pre>
+	 * 
+	 * The level is applied to existing loggers as well. Afterwards, the
+	 * {@linkplain Application#setLogLevel(int) libGDX log level} is changed
+	 * to match the most verbose configured level.
+	 * 
+	 * @param name
+	 *            the fully qualified name of the package or class
+	 * @param level
+	 *            the log level
+	 * @see #removeLogLevel(String)
+	 */
+	public static synchronized void setLogLevel(String name, LogLevel level) {
+		Preconditions.checkNotNull(name, "name cannot be null");
+		Preconditions.checkNotNull(level, "level cannot be null");
+		logLevels.put(name, level);
+		updateLogLevels();
 	}
 
 	/**
-	 * Set the log level of all {@link Logger}s. This also changes the
-	 * {@linkplain Application#setLogLevel(int) libGDX log level} to match it.
+	 * Sets the log level of a class, including its nested classes.
 	 * 
+	 * @param clazz
+	 *            the class
 	 * @param level
+	 *            the log level
+	 * @see #setLogLevel(String, LogLevel)
 	 */
-	public static void setLogLevel(LogLevel level) {
-		Gdx.app.setLogLevel(level.libgdxLevel);
-		logLevel = level;
+	public static void setLogLevel(Class<?> clazz, LogLevel level) {
+		setLogLevel(clazz.getName(), level);
 	}
 
 	/**
-	 * @return whether {@linkplain LogLevel#TRACE trace} messages are logged
+	 * Removes the log level of a package or class, so the level of the parent
+	 * package or the default level applies again.
+	 * 
+	 * @param name
+	 *            the fully qualified name of the package or class
+	 * @see #setLogLevel(String, LogLevel)
+	 */
+	public static synchronized void removeLogLevel(String name) {
+		if (logLevels.remove(name) != null)
+			updateLogLevels();
+	}
+
+	/**
+	 * @param name
+	 *            the fully qualified name of a class or package
+	 * @return the log level that applies to the given class or package
+	 */
+	public static synchronized LogLevel getLogLevel(String name) {
+		return resolveLogLevel(name);
+	}
+
+	private static LogLevel resolveLogLevel(String name) {
+		String key = name;
+		while (true) {
+			LogLevel level = logLevels.get(key);
+			if (level != null)
+				return level;
+
+			int i = Math.max(key.lastIndexOf('.'), key.lastIndexOf('$'));
+			if (i < 0)
+				return logLevel;
+			key = key.substring(0, i);
+		}
+	}
+
+	private static void updateLogLevels() {
+		LogLevel mostVerbose = logLevel;
+		for (LogLevel level : logLevels.values()) {
+			if (level.ordinal() > mostVerbose.ordinal())
+				mostVerbose = level;
+		}
+		if (Gdx.app != null)
+			Gdx.app.setLogLevel(mostVerbose.libgdxLevel);
+
+		for (Logger logger : loggers.values()) {
+			logger.setLogLevel(resolveLogLevel(logger.getName()));
+		}
+	}
+
+	/**
+	 * Sets the appender all {@link Logger}s pass their formatted messages on
+	 * to. To write the messages on a background thread, use an
+	 * {@link AsyncLogAppender}.
+	 * 
+	 * @param appender
+	 *            the appender; the default is {@link LogAppender#GDX}
+	 */
+	public static void setAppender(LogAppender appender) {
+		Preconditions.checkNotNull(appender, "appender cannot be null");
+		LoggerService.appender = appender;
+	}
+
+	/**
+	 * @return the appender all {@link Logger}s pass their messages on to
+	 */
+	public static LogAppender getAppender() {
+		return appender;
+	}
+
+	/**
+	 * @return whether {@linkplain LogLevel#TRACE trace} messages are logged by
+	 *         default, i.e. by loggers without a package or class log level
+	 * @see Logger#isTraceEnabled()
 	 */
 	public static boolean isTraceEnabled() {
 		return logLevel.ordinal() >= LogLevel.TRACE.ordinal();
 	}
 
 	/**
-	 * @return whether {@linkplain LogLevel#DEBUG debug} messages are logged
+	 * @return whether {@linkplain LogLevel#DEBUG debug} messages are logged by
+	 *         default, i.e. by loggers without a package or class log level
+	 * @see Logger#isDebugEnabled()
 	 */
 	public static boolean isDebugEnabled() {
 		return logLevel.ordinal() >= LogLevel.DEBUG.ordinal();
 	}
 
 	/**
-	 * @return whether {@linkplain LogLevel#INFO info} messages are logged
+	 * @return whether {@linkplain LogLevel#INFO info} messages are logged by
+	 *         default, i.e. by loggers without a package or class log level
+	 * @see Logger#isInfoEnabled()
 	 */
 	public static boolean isInfoEnabled() {
 		return logLevel.ordinal() >= LogLevel.INFO.ordinal();
 	}
 
 	/**
-	 * @return whether {@linkplain LogLevel#WARN warn} messages are logged
+	 * @return whether {@linkplain LogLevel#WARN warn} messages are logged by
+	 *         default, i.e. by loggers without a package or class log level
+	 * @see Logger#isWarnEnabled()
 	 */
 	public static boolean isWarnEnabled() {
 		return logLevel.ordinal() >= LogLevel.WARN.ordinal();
 	}
 
 	/**
-	 * @return whether {@linkplain LogLevel#ERROR error} messages are logged
+	 * @return whether {@linkplain LogLevel#ERROR error} messages are logged by
+	 *         default, i.e. by loggers without a package or class log level
+	 * @see Logger#isErrorEnabled()
 	 */
 	public static boolean isErrorEnabled() {
 		return logLevel.ordinal() >= LogLevel.ERROR.ordinal();
 	}
 
 	/**
-	 * Determines whether newly obtained loggers should abbreviate their class
-	 * names. E.g.:
+	 * Determines whether loggers should abbreviate their class names. Applies
+	 * to already obtained loggers as well. E.g.:
 	 * 
 	 * <pre>
 	* [ERROR] [c.b.g.m.MyGdxGame]: something went wrong!
@@ -176,14 +325,15 @@ public class LoggerService {
 	 * 
 	 * @param abbreviateClassNames
 	 */
-	public static void setUseAbbreviatedClassNames(
+	public static synchronized void setUseAbbreviatedClassNames(
 			boolean abbreviateClassNames) {
 		LoggerService.abbreviateClassNames = abbreviateClassNames;
+		updateClassNames();
 	}
 
 	/**
-	 * Determines whether newly obtained loggers should pad their class names.
-	 * E.g.:
+	 * Determines whether loggers should pad their class names. Applies to
+	 * already obtained loggers as well. E.g.:
 	 * 
 	 * <pre>
 	* [ERROR] [c.b.g.m.MyGdxGame]: something went wrong!
@@ -199,10 +349,17 @@ public class LoggerService {
 	 * @param minClassNameLength
 	 * @param maxClassNameLength
 	 */
-	public static void setPadClassNames(int minClassNameLength,
+	public static synchronized void setPadClassNames(int minClassNameLength,
 			int maxClassNameLength) {
 		LoggerService.minClassNameLength = minClassNameLength;
 		LoggerService.maxClassNameLength = maxClassNameLength;
+		updateClassNames();
+	}
+
+	private static void updateClassNames() {
+		for (Map.Entry<Class<?>, Logger> e : loggers.entrySet()) {
+			e.getValue().setClassName(getDisplayName(e.getKey()));
+		}
 	}
 
 }
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.gdx.log;
+
+import java.math.BigInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Formats the messages of a {@link Logger}. The results are the same as when
+ * using {@link String#format(String, Object...)}, but messages that only
+ * contain {@code %s}, {@code %d}, {@code %%} and {@code %n} are appended to a
+ * reused, thread-local {@link StringBuilder} instead. Primitive arguments are
+ * appended without being boxed. All other messages are passed on to
+ * {@link String#format(String, Object...)}. The messages are only parsed once,
+ * see {@link MessageTemplate}.
+ * <p>
+ * If the message and the arguments don't match, the unformatted message is
+ * returned. The first mismatch of every message is reported as a
+ * {@linkplain LogLevel#WARN warning}.
+ *
+ * @author damios
+ */
+@GwtIncompatible
+final class MessageFormatter {
+
+	private static final ThreadLocal<MessageFormatter> FORMATTER = ThreadLocal
+			.withInitial(MessageFormatter::new);
+	private static final int MAX_RETAINED_CAPACITY = 8192;
+
+	private final StringBuilder builder = new StringBuilder(256);
+	private @Nullable Logger logger;
+	private String prefix = "";
+	private @Nullable MessageTemplate template;
+	private int index;
+	private @Nullable String mismatch;
+	private boolean inUse = false;
+
+	private MessageFormatter() {
+		// not used
+	}
+
+	/* Fast paths */
+
+	static String format(Logger logger, String message) {
+		// Messages without arguments are often built dynamically, e.g. stack
+		// traces, so they aren't cached unless there is something to format
+		if (message.indexOf('%') < 0)
+			return logger.getClassPrefix() + message;
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template);
+		MessageFormatter f = begin(logger, template);
+		try {
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, Object arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, Object arg1,
+			Object arg2) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg1, arg2);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg1);
+			f.append(arg2);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, Object arg1,
+			Object arg2, Object arg3) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg1, arg2, arg3);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg1);
+			f.append(arg2);
+			f.append(arg3);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, Object... args) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, args);
+		MessageFormatter f = begin(logger, template);
+		try {
+			// format(message, null) is treated as a null argument
+			if (args == null)
+				f.append((Object) null);
+			else {
+				for (Object arg : args) {
+					f.append(arg);
+				}
+			}
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, int arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, long arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, float arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, char arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	static String format(Logger logger, String message, double arg) {
+		MessageTemplate template = MessageTemplate.get(message);
+		if (!template.isSimple())
+			return formatSlow(logger, template, arg);
+		MessageFormatter f = begin(logger, template);
+		try {
+			f.append(arg);
+			return f.end();
+		} finally {
+			f.reset();
+		}
+	}
+
+	/* Slow path */
+
+	private static String formatSlow(Logger logger, MessageTemplate template,
+			Object... args) {
+		String prefix = logger.getClassPrefix();
+		try {
+			return prefix + String.format(template.message, args);
+		} catch (IllegalArgumentException e) {
+			reportMismatch(logger, template,
+					e.getClass().getSimpleName() + ": " + e.getMessage());
+			return prefix + template.message;
+		}
+	}
+
+	/* Formatting */
+
+	/**
+	 * @return the formatter of the current thread, prepared for formatting
+	 *         the given simple template
+	 */
+	private static MessageFormatter begin(Logger logger,
+			MessageTemplate template) {
+		MessageFormatter f = FORMATTER.get();
+		if (f.inUse) // an argument's toString() is logging something itself
+			f = new MessageFormatter();
+
+		f.inUse = true;
+		f.logger = logger;
+		f.prefix = logger.getClassPrefix();
+		f.template = template;
+		f.index = 0;
+		f.mismatch = null;
+		f.builder.append(f.prefix);
+		return f;
+	}
+
+	/**
+	 * Appends the literal text up to the next format specifier.
+	 *
+	 * @return the conversion of the specifier ({@code s} or {@code d}), or
+	 *         {@code 0} if there is none left, i.e. the argument is ignored
+	 */
+	private char next() {
+		char[] conversions = template.conversions;
+		if (index >= conversions.length)
+			return 0;
+
+		builder.append(template.literals[index]);
+		return conversions[index++];
+	}
+
+	private void mismatch(char conversion, Class<?> argType) {
+		if (mismatch == null)
+			mismatch = "%" + conversion + " doesn't match an argument of type "
+					+ argType.getSimpleName();
+	}
+
+	private void append(Object arg) {
+		char c = next();
+		if (c == 's' || (c == 'd' && isIntegral(arg)))
+			builder.append(arg);
+		else if (c == 'd')
+			mismatch(c, arg.getClass());
+	}
+
+	private void append(int arg) {
+		if (next() != 0)
+			builder.append(arg);
+	}
+
+	private void append(long arg) {
+		if (next() != 0)
+			builder.append(arg);
+	}
+
+	private void append(float arg) {
+		char c = next();
+		if (c == 's')
+			builder.append(arg);
+		else if (c == 'd')
+			mismatch(c, float.class);
+	}
+
+	private void append(double arg) {
+		char c = next();
+		if (c == 's')
+			builder.append(arg);
+		else if (c == 'd')
+			mismatch(c, double.class);
+	}
+
+	private void append(char arg) {
+		char c = next();
+		if (c == 's')
+			builder.append(arg);
+		else if (c == 'd')
+			mismatch(c, char.class);
+	}
+
+	private static boolean isIntegral(Object arg) {
+		return arg == null || arg instanceof Integer || arg instanceof Long
+				|| arg instanceof Short || arg instanceof Byte
+				|| arg instanceof BigInteger;
+	}
+
+	private String end() {
+		MessageTemplate template = this.template;
+		int remaining = template.conversions.length - index;
+		if (remaining > 0) {
+			reportMismatch(logger, template,
+					remaining + " argument(s) missing");
+			return prefix + template.message;
+		}
+		if (mismatch != null) {
+			reportMismatch(logger, template, mismatch);
+			return prefix + template.message;
+		}
+		builder.append(template.literals[index]);
+		return builder.toString();
+	}
+
+	/**
+	 * Makes the formatter available again. Is also called if an argument's
+	 * {@code toString()} threw an exception, so the half-written message is
+	 * discarded.
+	 */
+	private void reset() {
+		builder.setLength(0);
+		if (builder.capacity() > MAX_RETAINED_CAPACITY)
+			builder.trimToSize();
+		this.logger = null;
+		this.template = null;
+		inUse = false;
+	}
+
+	/**
+	 * @return whether the formatter of the current thread is in use. Used for
+	 *         testing.
+	 */
+	static boolean isInUse() {
+		return FORMATTER.get().inUse;
+	}
+
+	/**
+	 * Reports the first mismatch between a message and its arguments as a
+	 * warning, if the logger issuing the message logs warnings. Afterwards,
+	 * the message is logged unformatted without further notice.
+	 */
+	private static void reportMismatch(Logger logger,
+			MessageTemplate template, String reason) {
+		if (logger.isWarnEnabled() && template.shouldReportMismatch())
+			LoggerService.getAppender().append(LogLevel.WARN,
+					"[Logger]: the arguments of the log message \""
+							+ template.message + "\" don't match (" + reason
+							+ "); it is logged unformatted");
+	}
+
+}
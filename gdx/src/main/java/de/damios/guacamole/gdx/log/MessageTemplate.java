@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.damios.guacamole.gdx.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.annotations.GwtIncompatible;
+
+/**
+ * A parsed log message. As most log messages are constants, the templates are
+ * cached per message string, so every message only has to be parsed once.
+ * <p>
+ * A template is <i>simple</i> if its format specifiers are all {@code %s} or
+ * {@code %d}; {@code %%} and {@code %n} are resolved when parsing. Simple
+ * templates are formatted by the {@link MessageFormatter} itself, all others
+ * via {@link String#format(String, Object...)}.
+ *
+ * @author damios
+ */
+@GwtIncompatible
+final class MessageTemplate {
+
+	/**
+	 * Caps the cache, in case messages are built dynamically. Once it is full,
+	 * the cache is cleared, so the messages that are still in use are cached
+	 * again instead of being parsed on every use.
+	 */
+	static final int MAX_CACHED_TEMPLATES = 2048;
+	private static final Map<String, MessageTemplate> TEMPLATES = new ConcurrentHashMap<>();
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	final String message;
+	/**
+	 * The text before every specifier, as well as the text after the last
+	 * one; {@code null} if the template isn't simple.
+	 */
+	final String @Nullable [] literals;
+	/**
+	 * The conversion of every specifier, i.e. {@code s} or {@code d};
+	 * {@code null} if the template isn't simple.
+	 */
+	final char @Nullable [] conversions;
+	private final AtomicBoolean mismatchReported = new AtomicBoolean();
+
+	/**
+	 * @param message
+	 *            the message
+	 * @return the (cached) template of the given message
+	 */
+	static MessageTemplate get(String message) {
+		MessageTemplate template = TEMPLATES.get(message);
+		if (template == null) {
+			template = new MessageTemplate(message);
+			if (TEMPLATES.size() >= MAX_CACHED_TEMPLATES)
+				TEMPLATES.clear();
+			MessageTemplate previous = TEMPLATES.putIfAbsent(message,
+					template);
+			if (previous != null)
+				template = previous;
+		}
+		return template;
+	}
+
+	MessageTemplate(String message) {
+		this.message = message;
+
+		List<String> literals = new ArrayList<>();
+		StringBuilder conversions = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+
+		int start = 0;
+		int i;
+		while ((i = message.indexOf('%', start)) >= 0) {
+			literal.append(message, start, i);
+			start = i + 2;
+
+			char c = i + 1 < message.length() ? message.charAt(i + 1) : 0;
+			if (c == '%') {
+				literal.append('%');
+			} else if (c == 'n') {
+				literal.append(LINE_SEPARATOR);
+			} else if (c == 's' || c == 'd') {
+				literals.add(literal.toString());
+				literal.setLength(0);
+				conversions.append(c);
+			} else { // flags, width, precision, index or other conversions
+				this.literals = null;
+				this.conversions = null;
+				return;
+			}
+		}
+		literal.append(message, start, message.length());
+		literals.add(literal.toString());
+
+		this.literals = literals.toArray(new String[0]);
+		this.conversions = conversions.toString().toCharArray();
+	}
+
+	boolean isSimple() {
+		return literals != null;
+	}
+
+	/**
+	 * @return whether a mismatch between this template and its arguments
+	 *         should be reported, i.e. whether this is the first one
+	 */
+	boolean shouldReportMismatch() {
+		return mismatchReported.compareAndSet(false, true);
+	}
+
+	/**
+	 * @return the number of cached templates. Used for testing.
+	 */
+	static int getCacheSize() {
+		return TEMPLATES.size();
+	}
+
+	/**
+	 * Clears the cache. Used for testing.
+	 */
+	static void clearCache() {
+		TEMPLATES.clear();
+	}
+
+}
@@ -164,7 +164,7 @@ public class ReflectionUtils {
 					allSuperTypes.addAll(retrieveAllSuperTypes(interfaceType));
 				}
 			} catch (RuntimeException e) {
-				if (LoggerService.isInfoEnabled())
+				if (LOG.isInfoEnabled())
 					LOG.info("Cannot retrieve the types of '" + clazz
 							+ "'. Skipping it for now.");
 			}
@@ -15,15 +15,21 @@
 
 package de.damios.guacamole.gdx.utils;
 
+import org.jspecify.annotations.Nullable;
+
 import com.badlogic.gdx.math.WindowedMean;
 
+import de.damios.guacamole.Histogram;
+
 /**
  * A FPS counter. Logs the past frame times every 500ms to be used in a
  * {@link WindowedMean} instance offering {@linkplain WindowedMean#getLowest()
  * minimum}, {@linkplain WindowedMean#getHighest() maximum} and
  * {@linkplain WindowedMean#getMean() mean} values.
  * <p>
- * Has to be updated every frame via {@link #update(float)}.
+ * Has to be updated every frame via {@link #update(float)}. For accurate
+ * percentiles, the individual frame times can additionally be recorded in a
+ * {@linkplain #setFrameTimeHistogram(Histogram) histogram}.
  * 
  * @author damios
  */
@@ -35,6 +41,7 @@ public class FPSCounter {
 
 	private int fps = 0;
 	private WindowedMean pastFrameTimes;
+	private @Nullable Histogram frameTimeHistogram;
 
 	public FPSCounter() {
 		pastFrameTimes = new WindowedMean(40);
@@ -66,7 +73,25 @@ public class FPSCounter {
 		return pastFrameTimes;
 	}
 
+	/**
+	 * @param frameTimeHistogram
+	 *            the histogram the time of every frame is recorded in (in
+	 *            nanoseconds); {@code null} disables recording
+	 */
+	public void setFrameTimeHistogram(
+			@Nullable Histogram frameTimeHistogram) {
+		this.frameTimeHistogram = frameTimeHistogram;
+	}
+
+	public @Nullable Histogram getFrameTimeHistogram() {
+		return frameTimeHistogram;
+	}
+
 	public void update(float delta) {
+		if (frameTimeHistogram != null)
+			frameTimeHistogram
+					.record(Math.max(0, (long) (delta * 1_000_000_000D)));
+
 		timeSinceLastTick += delta;
 		framesThisTick++;
 
@@ -0,0 +1,38 @@
+package de.damios.guacamole.gdx.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RenderThreadExecutor} class.
+ */
+public class RenderThreadExecutorTest {
+
+	@Test
+	public void testFrameBudget() {
+		RenderThreadExecutor executor = new RenderThreadExecutor(0,
+				TimeUnit.NANOSECONDS);
+		AtomicInteger counter = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			executor.execute(counter::incrementAndGet);
+		}
+		assertEquals(3, executor.getQueuedTaskCount());
+
+		// Without any budget, exactly one task is executed per frame
+		assertEquals(1, executor.update());
+		assertEquals(1, counter.get());
+		assertEquals(2, executor.getQueuedTaskCount());
+
+		// The remaining tasks are carried over
+		executor.setFrameBudget(1, TimeUnit.HOURS);
+		assertEquals(2, executor.update());
+		assertEquals(3, counter.get());
+		assertEquals(0, executor.update());
+	}
+
+}
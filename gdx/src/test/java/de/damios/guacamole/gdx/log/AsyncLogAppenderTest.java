@@ -0,0 +1,98 @@
+package de.damios.guacamole.gdx.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.damios.guacamole.gdx.log.AsyncLogAppender.OverflowPolicy;
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Tests the {@link AsyncLogAppender} class.
+ */
+public class AsyncLogAppenderTest {
+
+	@Test
+	public void testBlock() throws InterruptedException {
+		List<String> messages = new CopyOnWriteArrayList<>();
+		AsyncLogAppender appender = new AsyncLogAppender(
+				(level, message) -> messages.add(message), 4,
+				OverflowPolicy.BLOCK);
+
+		for (int i = 0; i < 100; i++) {
+			appender.append(LogLevel.INFO, "message " + i);
+		}
+		assertTrue(appender.flush(5, TimeUnit.SECONDS));
+		appender.close();
+
+		// Nothing is lost and the order is retained
+		assertEquals(100, messages.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals("message " + i, messages.get(i));
+		}
+		assertEquals(0, appender.getDroppedCount());
+	}
+
+	@Test
+	public void testDrop() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> messages = new CopyOnWriteArrayList<>();
+		AsyncLogAppender appender = new AsyncLogAppender((level, message) -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			messages.add(message);
+		}, 4, OverflowPolicy.DROP);
+
+		// The background thread is stuck on the first message, so at most 5
+		// messages can be accepted
+		for (int i = 0; i < 20; i++) {
+			appender.append(LogLevel.INFO, "message " + i);
+		}
+		assertTrue(appender.getDroppedCount() >= 15);
+
+		release.countDown();
+		assertTrue(appender.flush(5, TimeUnit.SECONDS));
+		appender.close();
+
+		// The number of dropped messages is reported
+		assertEquals(20 - appender.getDroppedCount() + 1, messages.size());
+		assertEquals("[AsyncLogAppender]: " + appender.getDroppedCount()
+				+ " log message(s) were dropped",
+				messages.get(messages.size() - 1));
+	}
+
+	@Test
+	public void testClose() throws InterruptedException {
+		List<String> messages = new CopyOnWriteArrayList<>();
+		List<RuntimeException> errors = new CopyOnWriteArrayList<>();
+		AsyncLogAppender appender = new AsyncLogAppender((level, message) -> {
+			if (message.equals("fail"))
+				throw new IllegalStateException();
+			messages.add(message);
+		}, 16, OverflowPolicy.BLOCK).setErrorHandler(errors::add);
+
+		appender.append(LogLevel.INFO, "fail");
+		appender.append(LogLevel.INFO, "before");
+		appender.close();
+		appender.append(LogLevel.INFO, "after");
+
+		// Messages appended after closing are written directly
+		assertEquals(2, messages.size());
+		assertEquals("before", messages.get(0));
+		assertEquals("after", messages.get(1));
+		assertEquals(0, appender.getPendingCount());
+
+		// The background thread survives a faulty delegate
+		assertEquals(1, errors.size());
+	}
+
+}
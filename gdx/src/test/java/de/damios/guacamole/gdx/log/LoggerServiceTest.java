@@ -0,0 +1,119 @@
+package de.damios.guacamole.gdx.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Tests the {@link LoggerService} class.
+ */
+public class LoggerServiceTest {
+
+	@Test
+	public void testGetLogger() {
+		Logger logger = LoggerService.getLogger(LoggerServiceTest.class);
+		assertSame(logger, LoggerService.getLogger(LoggerServiceTest.class));
+		assertNotSame(logger, LoggerService.getLogger(Logger.class));
+
+		assertNotEquals(logger, LoggerService.getLogger(Logger.class));
+
+		// Changed settings are applied to existing loggers as well
+		String padded = logger.toString();
+		LoggerService.setPadClassNames(0, 0);
+		try {
+			assertSame(logger,
+					LoggerService.getLogger(LoggerServiceTest.class));
+			assertEquals("Logger{classPrefix=[d.d.g.g.l.LoggerServiceTest]: }",
+					logger.toString());
+		} finally {
+			LoggerService.setPadClassNames(34, 34);
+		}
+		assertEquals(padded, logger.toString());
+	}
+
+	@Test
+	public void testPackageLogLevels() {
+		Logger logger = LoggerService.getLogger(LoggerServiceTest.class);
+		Logger other = LoggerService.getLogger(Thread.class);
+		assertTrue(logger.isInfoEnabled());
+		assertFalse(logger.isDebugEnabled());
+
+		try {
+			// Existing loggers are updated
+			LoggerService.setLogLevel("de.damios.guacamole", LogLevel.DEBUG);
+			assertTrue(logger.isDebugEnabled());
+			assertFalse(logger.isTraceEnabled());
+			assertFalse(other.isDebugEnabled());
+
+			// The most specific level applies
+			LoggerService.setLogLevel(LoggerServiceTest.class, LogLevel.TRACE);
+			LoggerService.setLogLevel("de.damios.guacamole.gdx.log",
+					LogLevel.ERROR);
+			assertEquals(LogLevel.TRACE, logger.getLogLevel());
+			assertEquals(LogLevel.TRACE, LoggerService
+					.getLogLevel(LoggerServiceTest.class.getName() + "$Inner"));
+			assertEquals(LogLevel.ERROR,
+					LoggerService.getLogger(Logger.class).getLogLevel());
+			assertEquals(LogLevel.DEBUG,
+					LoggerService.getLogLevel("de.damios.guacamole.Stopwatch"));
+
+			// The default level applies to everything else
+			LoggerService.setLogLevel(LogLevel.WARN);
+			assertEquals(LogLevel.WARN, other.getLogLevel());
+			assertFalse(LoggerService.isInfoEnabled());
+
+			LoggerService.removeLogLevel(LoggerServiceTest.class.getName());
+			assertEquals(LogLevel.ERROR, logger.getLogLevel());
+		} finally {
+			LoggerService.removeLogLevel("de.damios.guacamole");
+			LoggerService.removeLogLevel("de.damios.guacamole.gdx.log");
+			LoggerService.setLogLevel(LogLevel.INFO);
+		}
+		assertEquals(LogLevel.INFO, logger.getLogLevel());
+	}
+
+	@Test
+	public void testConcurrentGetLogger() throws InterruptedException {
+		// Loggers are compared by identity
+		Set<Logger> loggers = Collections
+				.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[8];
+
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int j = 0; j < 1000; j++) {
+					loggers.add(LoggerService.getLogger(Thread.class));
+				}
+			});
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread t : threads) {
+			t.join();
+		}
+
+		// All threads obtained the same instance
+		assertEquals(1, loggers.size());
+		assertSame(loggers.iterator().next(),
+				LoggerService.getLogger(Thread.class));
+	}
+
+}
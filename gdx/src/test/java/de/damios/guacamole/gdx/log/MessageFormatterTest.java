@@ -0,0 +1,178 @@
+package de.damios.guacamole.gdx.log;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.damios.guacamole.gdx.log.LoggerService.LogLevel;
+
+/**
+ * Tests the {@link MessageFormatter} class.
+ */
+public class MessageFormatterTest {
+
+	private static final Logger LOG = new Logger("test", "Test",
+			LogLevel.INFO);
+	private static final String PREFIX = "[Test]: ";
+	private final List<String> warnings = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		LoggerService.setAppender((level, message) -> {
+			if (level == LogLevel.WARN)
+				warnings.add(message);
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		LoggerService.setAppender(LogAppender.GDX);
+	}
+
+	@Test
+	public void testTemplate() {
+		assertTrue(new MessageTemplate("abc").isSimple());
+		assertFalse(new MessageTemplate("%.2f").isSimple());
+		assertFalse(new MessageTemplate("%1$s").isSimple());
+		assertFalse(new MessageTemplate("50%").isSimple());
+
+		MessageTemplate template = new MessageTemplate("%s and %d, 100%%%n");
+		assertTrue(template.isSimple());
+		assertArrayEquals(new char[] { 's', 'd' }, template.conversions);
+		assertArrayEquals(new String[] { "", " and ",
+				", 100%" + System.lineSeparator() }, template.literals);
+
+		// Templates are cached
+		assertSame(MessageTemplate.get("%s"), MessageTemplate.get("%s"));
+	}
+
+	@Test
+	public void testCache() {
+		MessageTemplate.clearCache();
+
+		// Messages without specifiers aren't cached
+		assertEquals(PREFIX + "dynamic 1",
+				MessageFormatter.format(LOG, "dynamic " + 1));
+		assertEquals(0, MessageTemplate.getCacheSize());
+
+		// The cache is bounded
+		for (int i = 0; i <= MessageTemplate.MAX_CACHED_TEMPLATES; i++) {
+			MessageFormatter.format(LOG, "message " + i + ": %s", i);
+		}
+		assertTrue(MessageTemplate.getCacheSize() > 0);
+		assertTrue(MessageTemplate
+				.getCacheSize() <= MessageTemplate.MAX_CACHED_TEMPLATES);
+		assertSame(MessageTemplate.get("%s"), MessageTemplate.get("%s"));
+	}
+
+	@Test
+	public void testSameAsStringFormat() {
+		assertFormat("no arguments, 100%%%n");
+		assertFormat("%s and %s", "a", null);
+		assertFormat("%d + %d = %s", 1, 2L, 3.0);
+		assertFormat("%s|%s|%s|%s", 1, 'c', true, 1.5f);
+		assertFormat("extra arguments: %s", 1, 2, 3);
+		assertFormat("%.2f (slow path)", 1.234);
+
+		assertEquals(PREFIX + String.format("x=%d", 5),
+				MessageFormatter.format(LOG, "x=%d", 5));
+		assertEquals(PREFIX + String.format("x=%s", 5L),
+				MessageFormatter.format(LOG, "x=%s", 5L));
+		assertEquals(PREFIX + String.format("x=%s", 0.1f),
+				MessageFormatter.format(LOG, "x=%s", 0.1f));
+		assertEquals(PREFIX + String.format("x=%s", 0.1),
+				MessageFormatter.format(LOG, "x=%s", 0.1));
+		assertEquals(PREFIX + String.format("x=%s", 'c'),
+				MessageFormatter.format(LOG, "x=%s", 'c'));
+		assertEquals(PREFIX + String.format("%s", (Object[]) null),
+				MessageFormatter.format(LOG, "%s", (Object[]) null));
+	}
+
+	@Test
+	public void testMismatch() {
+		// Like before, the unformatted message is used
+		assertEquals(PREFIX + "%d", MessageFormatter.format(LOG, "%d", "a"));
+		assertEquals(PREFIX + "%d", MessageFormatter.format(LOG, "%d", 1f));
+		assertEquals(PREFIX + "%s %s",
+				MessageFormatter.format(LOG, "%s %s", "a"));
+		assertEquals(PREFIX + "%.2f",
+				MessageFormatter.format(LOG, "%.2f", "a"));
+
+		// The formatter can be reused afterwards
+		assertEquals(PREFIX + "a", MessageFormatter.format(LOG, "%s", "a"));
+	}
+
+	@Test
+	public void testMismatchIsReportedOnce() {
+		for (int i = 0; i < 3; i++) {
+			MessageFormatter.format(LOG, "mismatched %d", "a");
+			MessageFormatter.format(LOG, "mismatched %.2f", "a");
+		}
+
+		assertEquals(2, warnings.size());
+		assertTrue(warnings.get(0).contains("\"mismatched %d\""));
+		assertTrue(warnings.get(1).contains("\"mismatched %.2f\""));
+	}
+
+	@Test
+	public void testMismatchUsesLoggerLevel() {
+		Logger warn = new Logger("warn", "Warn", LogLevel.WARN);
+		Logger error = new Logger("error", "Error", LogLevel.ERROR);
+		LoggerService.setLogLevel(LogLevel.ERROR);
+		try {
+			MessageFormatter.format(warn, "warn logger %d", "a");
+		} finally {
+			LoggerService.setLogLevel(LogLevel.INFO);
+		}
+		MessageFormatter.format(error, "error logger %d", "a");
+
+		assertEquals(1, warnings.size());
+		assertTrue(warnings.get(0).contains("\"warn logger %d\""));
+	}
+
+	@Test
+	public void testReentrant() {
+		Object arg = new Object() {
+			@Override
+			public String toString() {
+				return MessageFormatter.format(
+						new Logger("inner", "Inner", LogLevel.INFO), "%s",
+						"inner");
+			}
+		};
+		assertEquals(PREFIX + "outer [Inner]: inner",
+				MessageFormatter.format(LOG, "outer %s", arg));
+	}
+
+	@Test
+	public void testThrowingArgument() {
+		Object arg = new Object() {
+			@Override
+			public String toString() {
+				throw new IllegalStateException();
+			}
+		};
+		assertThrows(IllegalStateException.class,
+				() -> MessageFormatter.format(LOG, "before %s", arg));
+
+		// The half-written message is discarded and the formatter is reused
+		assertFalse(MessageFormatter.isInUse());
+		assertEquals(PREFIX + "a", MessageFormatter.format(LOG, "%s", "a"));
+	}
+
+	private static void assertFormat(String message, Object... args) {
+		assertEquals(PREFIX + String.format(message, args),
+				MessageFormatter.format(LOG, message, args));
+	}
+
+}